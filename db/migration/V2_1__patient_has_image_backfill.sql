@@ -0,0 +1,43 @@
+-- has_image 기존 행 백필 및 인덱스 추가
+-- V2__patient_has_image.sql 적용 후 has_image를 갱신하는 애플리케이션을 배포한 다음 실행
+-- (배포 전에 실행하면 그 사이 이전 버전이 저장한 이미지는 백필되지 않음)
+--   1. 기존 행 백필 (PK 범위 단위 소량 배치, 배치마다 커밋)
+--   2. 인덱스 추가
+USE patient_service;
+
+-- 1. 기존 행 백필
+--    재실행해도 안전 (이미 반영된 행은 조건에서 제외)
+DROP PROCEDURE IF EXISTS backfill_patient_has_image;
+
+DELIMITER //
+CREATE PROCEDURE backfill_patient_has_image(IN batch_size INT)
+BEGIN
+    DECLARE current_id BIGINT DEFAULT 0;
+    DECLARE max_id BIGINT;
+
+    SELECT COALESCE(MAX(patient_id), 0) INTO max_id FROM patient;
+
+    WHILE current_id < max_id DO
+        UPDATE patient
+           SET has_image = TRUE
+         WHERE patient_id > current_id
+           AND patient_id <= current_id + batch_size
+           AND image_file_name IS NOT NULL
+           AND image_file_name <> ''
+           AND has_image = FALSE;
+        COMMIT;
+
+        SET current_id = current_id + batch_size;
+        -- 복제 지연/락 경합 완화를 위한 짧은 대기
+        DO SLEEP(0.01);
+    END WHILE;
+END //
+DELIMITER ;
+
+CALL backfill_patient_has_image(5000);
+DROP PROCEDURE backfill_patient_has_image;
+
+-- 2. 인덱스 추가 (INPLACE, LOCK=NONE 으로 읽기/쓰기 차단 없음)
+ALTER TABLE patient
+    ADD INDEX idx_patient_has_image (has_image, patient_id),
+    ALGORITHM = INPLACE, LOCK = NONE;
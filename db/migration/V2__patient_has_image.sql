@@ -0,0 +1,10 @@
+-- 이미지 존재 여부 컬럼(has_image) 추가
+-- 운영 중 적용 순서
+--   1. 이 스크립트: 컬럼 추가 (INSTANT, 테이블 재작성 없음)
+--   2. has_image를 갱신하는 애플리케이션 배포
+--   3. V2_1__patient_has_image_backfill.sql: 기존 행 백필 및 인덱스 추가
+USE patient_service;
+
+ALTER TABLE patient
+    ADD COLUMN has_image BOOLEAN NOT NULL DEFAULT FALSE,
+    ALGORITHM = INSTANT;
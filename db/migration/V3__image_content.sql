@@ -0,0 +1,8 @@
+-- 내용 주소(SHA-256) 기반 중복 제거 저장소용 참조 수 테이블
+USE patient_service;
+
+CREATE TABLE IF NOT EXISTS image_content (
+    file_name VARCHAR(255) PRIMARY KEY,
+    ref_count INT NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
@@ -0,0 +1,13 @@
+-- 파일 정리 작업 큐 (outbox) 테이블
+USE patient_service;
+
+CREATE TABLE IF NOT EXISTS file_cleanup_outbox (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    file_name VARCHAR(255) NOT NULL,
+    cleanup_type VARCHAR(30) NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    last_error VARCHAR(500),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    INDEX idx_file_cleanup_outbox_next_attempt (next_attempt_at)
+);
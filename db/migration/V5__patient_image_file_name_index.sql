@@ -0,0 +1,6 @@
+-- 고아 파일 정리의 image_file_name IN 조회용 인덱스 (온라인 생성)
+USE patient_service;
+
+ALTER TABLE patient
+    ADD INDEX idx_patient_image_file_name (image_file_name),
+    ALGORITHM = INPLACE, LOCK = NONE;
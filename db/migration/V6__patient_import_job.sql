@@ -0,0 +1,18 @@
+-- 환자 CSV 가져오기 작업 테이블
+USE patient_service;
+
+CREATE TABLE IF NOT EXISTS patient_import_job (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    status VARCHAR(20) NOT NULL,
+    file_size BIGINT NOT NULL,
+    processed_rows BIGINT NOT NULL DEFAULT 0,
+    imported_rows BIGINT NOT NULL DEFAULT 0,
+    failed_rows BIGINT NOT NULL DEFAULT 0,
+    bytes_read BIGINT NOT NULL DEFAULT 0,
+    error_report_size BIGINT NOT NULL DEFAULT 0,
+    message VARCHAR(500),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    finished_at TIMESTAMP NULL,
+    INDEX idx_patient_import_job_status (status)
+);
@@ -0,0 +1,13 @@
+-- 환자 검색(/api/patients/search)용 복합 인덱스 (온라인 생성)
+--   name: 접두어 LIKE '김%' 범위 조회 (한글 이름은 utf8mb4 정렬 순서대로 저장되므로 성 접두어 검색 가능)
+--         범위 조건이라 인덱스 순서가 patient_id 순이 아니므로, 일치하는 행을 모두 읽어 정렬(filesort)
+--         흔한 성은 테이블의 상당 부분이 일치하므로 페이지마다 일치 행 수에 비례하는 비용
+--   gender, has_disease: 동등 조건이므로 인덱스 안에서 patient_id 순서가 유지되어 keyset 정렬을 인덱스 순서로 처리
+--   age: 나이 범위 조회 (이름과 같이 범위 조건이므로 일치 행 정렬 필요)
+USE patient_service;
+
+ALTER TABLE patient
+    ADD INDEX idx_patient_name (name, patient_id),
+    ADD INDEX idx_patient_gender_disease (gender, has_disease, patient_id),
+    ADD INDEX idx_patient_age (age, patient_id),
+    ALGORITHM = INPLACE, LOCK = NONE;
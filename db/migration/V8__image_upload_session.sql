@@ -0,0 +1,12 @@
+-- 이미지 분할 업로드 세션 테이블
+USE patient_service;
+
+CREATE TABLE IF NOT EXISTS image_upload_session (
+    id VARCHAR(36) PRIMARY KEY,
+    patient_id BIGINT NOT NULL,
+    extension VARCHAR(10) NOT NULL,
+    file_size BIGINT NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    expires_at TIMESTAMP NOT NULL,
+    INDEX idx_image_upload_session_expires_at (expires_at)
+);
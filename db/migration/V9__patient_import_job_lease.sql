@@ -0,0 +1,13 @@
+-- 가져오기 작업 점유(임대) 컬럼 추가
+-- 여러 인스턴스 중 작업을 점유한 하나만 실행하고, heartbeat_at 이 임대 기간 동안 갱신되지 않으면 다른 인스턴스가 재개
+USE patient_service;
+
+ALTER TABLE patient_import_job
+    ADD COLUMN owner VARCHAR(64) NULL AFTER error_report_size,
+    ADD COLUMN heartbeat_at TIMESTAMP NULL AFTER owner,
+    ALGORITHM = INSTANT;
+
+-- 기존 대기/진행 중 작업은 마지막 갱신 시각을 점유 시각으로 사용 (임대 만료 후 재개)
+UPDATE patient_import_job
+   SET heartbeat_at = updated_at
+ WHERE heartbeat_at IS NULL;
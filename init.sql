@@ -10,6 +10,61 @@ CREATE TABLE IF NOT EXISTS patient (
     gender VARCHAR(10) NOT NULL,
     has_disease BOOLEAN NOT NULL DEFAULT FALSE,
     image_file_name VARCHAR(255),
+    has_image BOOLEAN NOT NULL DEFAULT FALSE,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
-    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    INDEX idx_patient_has_image (has_image, patient_id),
+    INDEX idx_patient_image_file_name (image_file_name),
+    INDEX idx_patient_name (name, patient_id),
+    INDEX idx_patient_gender_disease (gender, has_disease, patient_id),
+    INDEX idx_patient_age (age, patient_id)
+);
+
+  -- 내용 주소(SHA-256) 이미지 참조 수 테이블 (file.storage.deduplicate=true)
+CREATE TABLE IF NOT EXISTS image_content (
+    file_name VARCHAR(255) PRIMARY KEY,
+    ref_count INT NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+  -- 파일 정리 작업 큐 (outbox)
+CREATE TABLE IF NOT EXISTS file_cleanup_outbox (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    file_name VARCHAR(255) NOT NULL,
+    cleanup_type VARCHAR(30) NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    last_error VARCHAR(500),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    INDEX idx_file_cleanup_outbox_next_attempt (next_attempt_at)
+);
+
+  -- 환자 CSV 가져오기 작업
+CREATE TABLE IF NOT EXISTS patient_import_job (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    status VARCHAR(20) NOT NULL,
+    file_size BIGINT NOT NULL,
+    processed_rows BIGINT NOT NULL DEFAULT 0,
+    imported_rows BIGINT NOT NULL DEFAULT 0,
+    failed_rows BIGINT NOT NULL DEFAULT 0,
+    bytes_read BIGINT NOT NULL DEFAULT 0,
+    error_report_size BIGINT NOT NULL DEFAULT 0,
+    owner VARCHAR(64),
+    heartbeat_at TIMESTAMP NULL,
+    message VARCHAR(500),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    finished_at TIMESTAMP NULL,
+    INDEX idx_patient_import_job_status (status)
+);
+
+  -- 이미지 분할 업로드 세션
+CREATE TABLE IF NOT EXISTS image_upload_session (
+    id VARCHAR(36) PRIMARY KEY,
+    patient_id BIGINT NOT NULL,
+    extension VARCHAR(10) NOT NULL,
+    file_size BIGINT NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    expires_at TIMESTAMP NOT NULL,
+    INDEX idx_image_upload_session_expires_at (expires_at)
 );
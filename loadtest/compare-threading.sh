@@ -0,0 +1,35 @@
+#!/bin/bash
+# 플랫폼 스레드 / 가상 스레드 모드 처리량 비교
+# 요구사항: Java 21 런타임, k6, 실행 중인 MySQL (docker-compose up mysql)
+# 사용법: ./loadtest/compare-threading.sh build/libs/patient-service-0.0.1-SNAPSHOT.jar ./sample.png
+set -euo pipefail
+
+JAR=${1:?jar path}
+IMAGE=${2:?sample image path}
+BASE_URL=http://localhost:8080
+
+run_mode() {
+    local mode=$1
+    local profile_args=()
+    [ "$mode" = "virtual" ] && profile_args=(--spring.profiles.active=virtual)
+
+    java -jar "$JAR" "${profile_args[@]}" > "loadtest/app-$mode.log" 2>&1 &
+    local pid=$!
+    until curl -sf "$BASE_URL/actuator/health" > /dev/null; do sleep 1; done
+
+    k6 run -q -e BASE_URL="$BASE_URL" -e IMAGE="$IMAGE" \
+        --summary-export "loadtest/summary-$mode.json" loadtest/mixed-load.js
+
+    kill "$pid"
+    wait "$pid" 2> /dev/null || true
+}
+
+run_mode platform
+run_mode virtual
+
+for mode in platform virtual; do
+    printf '%-9s req/s=%s p99(ms)=%s failed=%s\n' "$mode" \
+        "$(jq '.metrics.http_reqs.rate' "loadtest/summary-$mode.json")" \
+        "$(jq '.metrics.http_req_duration["p(99)"]' "loadtest/summary-$mode.json")" \
+        "$(jq '.metrics.http_req_failed.value' "loadtest/summary-$mode.json")"
+done
@@ -0,0 +1,58 @@
+// 업로드/조회 혼합 부하 시나리오 (k6)
+// 실행: k6 run -e BASE_URL=http://localhost:8080 -e IMAGE=./sample.png loadtest/mixed-load.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const PATIENTS = parseInt(__ENV.PATIENTS || '200');
+const DURATION = __ENV.DURATION || '60s';
+const image = open(__ENV.IMAGE || './sample.png', 'b');
+
+export const options = {
+    scenarios: {
+        // 조회 90%: 상세 조회, 원본/축소본 이미지, 목록
+        readers: { executor: 'constant-vus', vus: parseInt(__ENV.READERS || '180'), duration: DURATION, exec: 'read' },
+        // 업로드 10%
+        uploaders: { executor: 'constant-vus', vus: parseInt(__ENV.UPLOADERS || '20'), duration: DURATION, exec: 'upload' },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(99)', 'max'],
+};
+
+export function setup() {
+    const ids = [];
+    for (let i = 0; i < PATIENTS; i++) {
+        const res = http.post(`${BASE_URL}/api/patients`,
+            JSON.stringify({ name: `부하${i}`, age: 20 + (i % 60), gender: i % 2 ? 'M' : 'F', hasDisease: i % 3 === 0 }),
+            { headers: { 'Content-Type': 'application/json' } });
+        const id = res.json('patientId');
+        http.put(`${BASE_URL}/api/patients/${id}/image`, { file: http.file(image, 'sample.png', 'image/png') });
+        ids.push(id);
+    }
+    return { ids };
+}
+
+function pick(ids) {
+    return ids[Math.floor(Math.random() * ids.length)];
+}
+
+export function read(data) {
+    const id = pick(data.ids);
+    const r = Math.random();
+    let res;
+    if (r < 0.4) {
+        res = http.get(`${BASE_URL}/api/patients/${id}`, { tags: { name: 'detail' } });
+    } else if (r < 0.7) {
+        res = http.get(`${BASE_URL}/api/patients/${id}/image`, { tags: { name: 'image' } });
+    } else if (r < 0.9) {
+        res = http.get(`${BASE_URL}/api/patients/${id}/image?size=thumb`, { tags: { name: 'thumb' } });
+    } else {
+        res = http.get(`${BASE_URL}/api/patients/scroll?size=20&imageUploaded=true`, { tags: { name: 'list' } });
+    }
+    check(res, { 'status is 200': (x) => x.status === 200 });
+}
+
+export function upload(data) {
+    const res = http.put(`${BASE_URL}/api/patients/${pick(data.ids)}/image`,
+        { file: http.file(image, 'sample.png', 'image/png') }, { tags: { name: 'upload' } });
+    check(res, { 'status is 200': (x) => x.status === 200 });
+}
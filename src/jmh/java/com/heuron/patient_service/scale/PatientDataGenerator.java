@@ -0,0 +1,140 @@
+package com.heuron.patient_service.scale;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Random;
+
+/**
+ * 규모 테스트용 합성 환자 데이터 생성기
+ * 같은 (행 수, 이미지 비율, 시드)이면 항상 같은 데이터를 생성하며, 이미 같은 조건으로 적재되어 있으면 건너뜀
+ * 기본 대상은 MySQL 호환 모드의 H2 파일 DB (build/scale-db)
+ *
+ * ./gradlew scaleData -Prows=1000000 [-PimageRatio=0.3]
+ */
+public class PatientDataGenerator {
+
+    static final long DEFAULT_SEED = 20240101L;
+    static final double DEFAULT_IMAGE_RATIO = 0.3;
+
+    private static final int BATCH_SIZE = 10_000;
+    private static final String[] FAMILY_NAMES = {"김", "이", "박", "최", "정", "강", "조", "윤", "장", "임"};
+    private static final String[] GIVEN_NAMES = {"민준", "서연", "도윤", "지우", "하준", "서윤", "은우", "지민", "예준", "수아"};
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2020, 1, 1, 0, 0);
+
+    // init.sql 의 patient 테이블과 같은 컬럼/인덱스 구성
+    private static final String[] SCHEMA = {
+        "CREATE TABLE IF NOT EXISTS patient (" +
+            "patient_id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+            "name VARCHAR(100) NOT NULL, " +
+            "age INT NOT NULL, " +
+            "gender VARCHAR(10) NOT NULL, " +
+            "has_disease BOOLEAN NOT NULL DEFAULT FALSE, " +
+            "image_file_name VARCHAR(255), " +
+            "has_image BOOLEAN NOT NULL DEFAULT FALSE, " +
+            "created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP, " +
+            "updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP)",
+        "CREATE INDEX IF NOT EXISTS idx_patient_has_image ON patient (has_image, patient_id)",
+        "CREATE INDEX IF NOT EXISTS idx_patient_image_file_name ON patient (image_file_name)",
+        // 적재 조건 기록 (재실행 시 재사용 여부 판단)
+        "CREATE TABLE IF NOT EXISTS scale_dataset (" +
+            "id INT PRIMARY KEY, row_count BIGINT NOT NULL, image_ratio DOUBLE NOT NULL, seed BIGINT NOT NULL)"
+    };
+
+    public static void main(String[] args) throws SQLException {
+        long rows = args.length > 0 ? Long.parseLong(args[0]) : 1_000_000L;
+        double imageRatio = args.length > 1 ? Double.parseDouble(args[1]) : DEFAULT_IMAGE_RATIO;
+        ensureLoaded(h2Url(rows), rows, imageRatio, DEFAULT_SEED);
+    }
+
+    /**
+     * 행 수별 H2 파일 DB URL (MySQL 호환 모드)
+     */
+    public static String h2Url(long rows) {
+        return "jdbc:h2:file:./build/scale-db/patients-" + rows + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE";
+    }
+
+    /**
+     * 테이블 생성 후 적재 조건이 다르면 비우고 다시 적재
+     */
+    public static void ensureLoaded(String jdbcUrl, long rows, double imageRatio, long seed) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(jdbcUrl, "sa", "")) {
+            try (Statement statement = connection.createStatement()) {
+                for (String ddl : SCHEMA) {
+                    statement.execute(ddl);
+                }
+            }
+
+            if (isLoaded(connection, rows, imageRatio, seed)) {
+                System.out.printf("patient table already has %d rows (imageRatio=%.2f, seed=%d), skipping load%n",
+                    rows, imageRatio, seed);
+                return;
+            }
+
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("DELETE FROM scale_dataset");
+                statement.execute("TRUNCATE TABLE patient RESTART IDENTITY");
+            }
+            load(connection, rows, imageRatio, seed);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("ANALYZE");
+                statement.execute("INSERT INTO scale_dataset (id, row_count, image_ratio, seed) VALUES (1, " +
+                    rows + ", " + imageRatio + ", " + seed + ")");
+            }
+        }
+    }
+
+    private static void load(Connection connection, long rows, double imageRatio, long seed) throws SQLException {
+        Random random = new Random(seed);
+        long startedAt = System.nanoTime();
+        connection.setAutoCommit(false);
+
+        String sql = "INSERT INTO patient (name, age, gender, has_disease, image_file_name, has_image, created_at, updated_at) " +
+                     "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (long id = 1; id <= rows; id++) {
+                boolean hasImage = random.nextDouble() < imageRatio;
+                // patient_id 순으로 생성 시각이 증가 (초 단위 간격에 약간의 흔들림)
+                Timestamp createdAt = Timestamp.valueOf(BASE_TIME.plusSeconds(id * 30 + random.nextInt(30)));
+
+                statement.setString(1, FAMILY_NAMES[random.nextInt(FAMILY_NAMES.length)] +
+                                       GIVEN_NAMES[random.nextInt(GIVEN_NAMES.length)]);
+                statement.setInt(2, 1 + random.nextInt(99));
+                statement.setString(3, random.nextBoolean() ? "M" : "F");
+                statement.setBoolean(4, random.nextInt(4) == 0);
+                statement.setString(5, hasImage ? id + "_" + createdAt.getTime() + (random.nextBoolean() ? ".png" : ".jpg") : null);
+                statement.setBoolean(6, hasImage);
+                statement.setTimestamp(7, createdAt);
+                statement.setTimestamp(8, createdAt);
+                statement.addBatch();
+
+                if (id % BATCH_SIZE == 0 || id == rows) {
+                    statement.executeBatch();
+                    connection.commit();
+                }
+                if (id % 1_000_000 == 0) {
+                    System.out.printf("loaded %d / %d rows%n", id, rows);
+                }
+            }
+        }
+
+        connection.setAutoCommit(true);
+        System.out.printf("loaded %d rows (imageRatio=%.2f, seed=%d) in %d ms%n",
+            rows, imageRatio, seed, (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    private static boolean isLoaded(Connection connection, long rows, double imageRatio, long seed) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT row_count, image_ratio, seed FROM scale_dataset WHERE id = 1")) {
+            return resultSet.next()
+                && resultSet.getLong(1) == rows
+                && resultSet.getDouble(2) == imageRatio
+                && resultSet.getLong(3) == seed;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.heuron.patient_service.scale;
+
+import com.heuron.patient_service.dto.CursorResponse;
+import com.heuron.patient_service.dto.PaginatedResponse;
+import com.heuron.patient_service.dto.PatientResponseDto;
+import com.heuron.patient_service.service.PatientService;
+import com.heuron.patient_service.util.PageCursor;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목록 조회 규모 테스트 (페이지 깊이 x 필터)
+ * 합성 데이터(PatientDataGenerator)를 적재한 H2(MySQL 모드)에 애플리케이션 컨텍스트를 띄워
+ * OFFSET 페이지(getAllPatients)와 커서 페이지(scrollPatients)의 지연 분포(p50/p99)를 측정
+ * 각 쿼리의 실행 계획은 build/results/jmh/scale-plans-{rows}.txt 에 기록
+ *
+ * ./gradlew jmh -PjmhIncludes=PatientListScaleBenchmark
+ * (행 수 변경: build.gradle 의 jmh.benchmarkParameters 또는 -PscaleRows=1000000)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PatientListScaleBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"100000"})
+    public long rows;
+
+    @Param({"ALL", "IMAGE", "NO_IMAGE"})
+    public String filter;
+
+    // 페이지 번호 (필터 결과보다 깊으면 마지막 페이지로 조정)
+    @Param({"0", "100", "2000"})
+    public int pageDepth;
+
+    private ConfigurableApplicationContext context;
+    private PatientService patientService;
+    private Boolean imageUploaded;
+    private int pageNumber;
+    private String cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException, IOException {
+        String jdbcUrl = PatientDataGenerator.h2Url(rows);
+        PatientDataGenerator.ensureLoaded(jdbcUrl, rows, PatientDataGenerator.DEFAULT_IMAGE_RATIO, PatientDataGenerator.DEFAULT_SEED);
+
+        context = ScaleApplication.start(jdbcUrl);
+        patientService = context.getBean(PatientService.class);
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        imageUploaded = switch (filter) {
+            case "IMAGE" -> true;
+            case "NO_IMAGE" -> false;
+            default -> null;
+        };
+
+        String where = imageUploaded == null ? "" : " WHERE has_image = " + imageUploaded;
+        long matching = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM patient" + where, Long.class);
+        pageNumber = (int) Math.min(pageDepth, Math.max(0, (matching - 1) / PAGE_SIZE));
+
+        // 같은 깊이의 OFFSET 페이지와 동일한 위치를 가리키는 커서
+        long offset = (long) pageNumber * PAGE_SIZE;
+        cursor = offset == 0 ? null : PageCursor.encode(jdbcTemplate.queryForObject(
+            "SELECT patient_id FROM patient" + where + " ORDER BY patient_id LIMIT 1 OFFSET " + (offset - 1), Long.class));
+
+        writePlans(jdbcTemplate, where, offset);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public PaginatedResponse<PatientResponseDto> offsetPage() {
+        return patientService.getAllPatients(PageRequest.of(pageNumber, PAGE_SIZE), imageUploaded);
+    }
+
+    @Benchmark
+    public CursorResponse<PatientResponseDto> cursorPage() {
+        return patientService.scrollPatients(cursor, PAGE_SIZE, imageUploaded, false);
+    }
+
+    /**
+     * 측정 대상 쿼리와 같은 형태의 SQL 실행 계획 기록
+     */
+    private void writePlans(JdbcTemplate jdbcTemplate, String where, long offset) throws IOException {
+        String seek = (where.isEmpty() ? " WHERE " : where + " AND ") + "patient_id > 0";
+        List<String> queries = List.of(
+            "SELECT * FROM patient" + where + " LIMIT " + PAGE_SIZE + " OFFSET " + offset,
+            "SELECT COUNT(*) FROM patient" + where,
+            "SELECT * FROM patient" + seek + " ORDER BY patient_id LIMIT " + (PAGE_SIZE + 1));
+
+        List<String> lines = new ArrayList<>();
+        lines.add("## rows=" + rows + ", filter=" + filter + ", pageDepth=" + pageDepth + " (page " + pageNumber + ")");
+        for (String query : queries) {
+            lines.add("-- " + query);
+            lines.addAll(jdbcTemplate.queryForList("EXPLAIN " + query, String.class));
+            lines.add("");
+        }
+
+        Path planFile = Path.of("build", "results", "jmh", "scale-plans-" + rows + ".txt");
+        Files.createDirectories(planFile.getParent());
+        Files.write(planFile, lines, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+}
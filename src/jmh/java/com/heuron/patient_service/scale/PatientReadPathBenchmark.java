@@ -0,0 +1,82 @@
+package com.heuron.patient_service.scale;
+
+import com.heuron.patient_service.dto.PatientResponseDto;
+import com.heuron.patient_service.entity.Patient;
+import com.heuron.patient_service.repository.PatientReadRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목록 조회 읽기 경로 비교 (페이지 크기별)
+ *   entityPage     - 관리 엔티티 조회 후 PatientResponseDto.from 변환 (이전 방식)
+ *   projectionPage - 필요한 컬럼만 JPQL 생성자 표현식으로 PatientResponseDto에 매핑 (PatientReadRepository)
+ * 같은 읽기 전용 트랜잭션 안에서 측정하며, gc 프로파일러의 gc.alloc.rate.norm 으로 페이지당 할당량 비교
+ *
+ * ./gradlew jmh -PjmhIncludes=PatientReadPathBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PatientReadPathBenchmark {
+
+    private static final int PAGE_NUMBER = 10;
+
+    @Param({"100000"})
+    public long rows;
+
+    @Param({"20", "100", "1000"})
+    public int pageSize;
+
+    private ConfigurableApplicationContext context;
+    private EntityManager entityManager;
+    private PatientReadRepository patientReadRepository;
+    private TransactionTemplate readOnlyTransaction;
+    private Pageable pageable;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        String jdbcUrl = PatientDataGenerator.h2Url(rows);
+        PatientDataGenerator.ensureLoaded(jdbcUrl, rows, PatientDataGenerator.DEFAULT_IMAGE_RATIO, PatientDataGenerator.DEFAULT_SEED);
+
+        context = ScaleApplication.start(jdbcUrl);
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(context.getBean(EntityManagerFactory.class));
+        patientReadRepository = context.getBean(PatientReadRepository.class);
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+        pageable = PageRequest.of(PAGE_NUMBER, pageSize);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<PatientResponseDto> entityPage() {
+        // COUNT 없이 같은 OFFSET/LIMIT 쿼리로 엔티티만 조회
+        return readOnlyTransaction.execute(status -> entityManager
+            .createQuery("SELECT p FROM Patient p ORDER BY p.patientId", Patient.class)
+            .setFirstResult((int) pageable.getOffset())
+            .setMaxResults(pageable.getPageSize())
+            .getResultStream()
+            .map(patient -> PatientResponseDto.from(patient,
+                patient.hasImage() ? PatientResponseDto.imageUrl(patient.getPatientId()) : null))
+            .toList());
+    }
+
+    @Benchmark
+    public List<PatientResponseDto> projectionPage() {
+        return readOnlyTransaction.execute(status -> patientReadRepository.findPage(null, pageable));
+    }
+}
@@ -0,0 +1,33 @@
+package com.heuron.patient_service.scale;
+
+import com.heuron.patient_service.PatientServiceApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 규모 테스트용 애플리케이션 컨텍스트 (웹 서버 없이 합성 데이터 H2에 연결)
+ */
+final class ScaleApplication {
+
+    private ScaleApplication() {
+    }
+
+    /**
+     * 설정은 명령행 인자로 전달 (기본 속성으로 넘기면 클래스패스의 application.properties 가 우선함)
+     */
+    static ConfigurableApplicationContext start(String jdbcUrl) {
+        return new SpringApplicationBuilder(PatientServiceApplication.class)
+            .web(WebApplicationType.NONE)
+            .run(
+                "--spring.datasource.url=" + jdbcUrl,
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.hibernate.ddl-auto=update",
+                "--file.upload-dir=build/scale-uploads",
+                "--image.reconcile.cron=-",
+                "--logging.level.root=WARN");
+    }
+}
@@ -0,0 +1,29 @@
+package com.heuron.patient_service.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이미지 응답마다 실행되는 Content-Type 결정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ImageServiceBenchmark {
+
+    @Param({"3_1792223137361.png", "84/05/3_1792223137361.JPG", "derivatives/thumb/3_1792223137361.gif"})
+    public String fileName;
+
+    private ImageService imageService;
+
+    @Setup
+    public void setUp() {
+        imageService = new ImageService(null, null, null, null, null, null, null);
+    }
+
+    @Benchmark
+    public String getImageMediaType() {
+        return imageService.getImageMediaType(fileName);
+    }
+}
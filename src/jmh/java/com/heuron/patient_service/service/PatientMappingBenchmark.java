@@ -0,0 +1,53 @@
+package com.heuron.patient_service.service;
+
+import com.heuron.patient_service.dto.PatientResponseDto;
+import com.heuron.patient_service.entity.Gender;
+import com.heuron.patient_service.entity.Patient;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엔티티 → PatientResponseDto 변환 (페이지 크기별)
+ * 목록 조회는 프로젝션으로 바뀌었으므로 (PatientReadPathBenchmark) 등록/일괄 등록 응답의 변환 비용 확인용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PatientMappingBenchmark {
+
+    @Param({"20", "100", "1000"})
+    public int pageSize;
+
+    private List<Patient> page;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        page = new ArrayList<>(pageSize);
+        for (long id = 1; id <= pageSize; id++) {
+            page.add(Patient.builder()
+                .patientId(id)
+                .name("환자" + id)
+                .age((int) (20 + id % 60))
+                .gender(id % 2 == 0 ? Gender.M : Gender.F)
+                .hasDisease(id % 3 == 0)
+                .imageFileName(id % 2 == 0 ? id + "_1792223137361.png" : null)
+                .hasImage(id % 2 == 0)
+                .createdAt(now)
+                .updatedAt(now)
+                .build());
+        }
+    }
+
+    @Benchmark
+    public List<PatientResponseDto> toResponseDtos() {
+        return page.stream()
+            .map(patient -> PatientResponseDto.from(patient,
+                patient.getHasImage() ? PatientResponseDto.imageUrl(patient.getPatientId()) : null))
+            .toList();
+    }
+}
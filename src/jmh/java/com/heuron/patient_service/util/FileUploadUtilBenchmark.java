@@ -0,0 +1,70 @@
+package com.heuron.patient_service.util;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockMultipartFile;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 업로드 요청마다 실행되는 파일 검증/파일명 처리 경로
+ * ./gradlew jmh -PjmhIncludes=FileUploadUtilBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FileUploadUtilBenchmark {
+
+    private static final int MIME_DETECTION_BYTES = 8 * 1024;
+
+    private FileUploadUtil fileUploadUtil;
+    private MockMultipartFile file;
+    private byte[] header;
+
+    @Setup
+    public void setUp() throws IOException {
+        fileUploadUtil = new FileUploadUtil(new SimpleMeterRegistry());
+
+        BufferedImage image = new BufferedImage(256, 256, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        byte[] content = out.toByteArray();
+
+        file = new MockMultipartFile("file", "patient-xray_01.png", "image/png", content);
+        header = Arrays.copyOf(content, Math.min(content.length, MIME_DETECTION_BYTES));
+    }
+
+    @Benchmark
+    public MockMultipartFile validateFile() {
+        fileUploadUtil.validateFile(file);
+        return file;
+    }
+
+    @Benchmark
+    public byte[] validateMimeType() {
+        fileUploadUtil.validateMimeType(header);
+        return header;
+    }
+
+    @Benchmark
+    public String sanitizeFileName(FileNameState state) {
+        return fileUploadUtil.sanitizeFileName(state.originalFileName);
+    }
+
+    @Benchmark
+    public String generateFileName(FileNameState state) {
+        return fileUploadUtil.generateFileName(state.originalFileName, 12345L);
+    }
+
+    // 정상 파일명과 경로/특수문자가 섞인 파일명
+    @State(Scope.Benchmark)
+    public static class FileNameState {
+        @Param({"patient-xray_01.png", "../../etc/환자 사진 (최종).JPG"})
+        public String originalFileName;
+    }
+}
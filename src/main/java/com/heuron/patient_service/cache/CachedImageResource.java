@@ -0,0 +1,104 @@
+package com.heuron.patient_service.cache;
+
+import org.springframework.core.io.AbstractResource;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * 캐시된 이미지 바이트 (direct ByteBuffer) 를 Resource로 제공
+ * 요청마다 독립된 위치의 읽기 전용 뷰를 사용하므로 여러 요청이 같은 버퍼를 동시에 읽을 수 있음
+ * Range 요청은 skip으로 시작 위치를 바로 이동
+ */
+public class CachedImageResource extends AbstractResource {
+
+    private static final int TRANSFER_BUFFER_SIZE = 16 * 1024;
+
+    private final String fileName;
+    private final ByteBuffer content;
+
+    public CachedImageResource(String fileName, ByteBuffer content) {
+        this.fileName = fileName;
+        this.content = content;
+    }
+
+    @Override
+    public String getFilename() {
+        return fileName.substring(fileName.lastIndexOf('/') + 1);
+    }
+
+    @Override
+    public String getDescription() {
+        return "Cached image [" + fileName + "]";
+    }
+
+    @Override
+    public boolean exists() {
+        return true;
+    }
+
+    @Override
+    public long contentLength() {
+        // 읽기 스트림과 같은 구간 (position ~ limit), 버퍼 용량이 이미지 크기보다 클 수 있음
+        return content.remaining();
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        return new ByteBufferInputStream(content.duplicate());
+    }
+
+    private static final class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        private ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(len, buffer.remaining());
+            buffer.get(b, off, count);
+            return count;
+        }
+
+        @Override
+        public long skip(long n) {
+            int count = (int) Math.max(0, Math.min(n, buffer.remaining()));
+            buffer.position(buffer.position() + count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+
+        // 응답 스트림으로 직접 복사 (off-heap → 전송 버퍼, 디스크 읽기 없음)
+        @Override
+        public long transferTo(OutputStream out) throws IOException {
+            long transferred = buffer.remaining();
+            byte[] chunk = new byte[(int) Math.min(TRANSFER_BUFFER_SIZE, Math.max(transferred, 1))];
+            while (buffer.hasRemaining()) {
+                int count = Math.min(chunk.length, buffer.remaining());
+                buffer.get(chunk, 0, count);
+                out.write(chunk, 0, count);
+            }
+            return transferred;
+        }
+    }
+}
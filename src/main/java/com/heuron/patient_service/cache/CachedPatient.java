@@ -0,0 +1,36 @@
+package com.heuron.patient_service.cache;
+
+import com.heuron.patient_service.entity.Gender;
+import com.heuron.patient_service.entity.Patient;
+
+import java.time.LocalDateTime;
+
+/**
+ * 캐시에 보관하는 환자 정보 스냅샷
+ * 영속성 컨텍스트와 분리된 불변 객체로 보관 (관리 엔티티를 캐시하지 않음)
+ */
+public record CachedPatient(
+    Long patientId,
+    String name,
+    Integer age,
+    Gender gender,
+    Boolean hasDisease,
+    String imageFileName,
+    boolean hasImage,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt
+) {
+    public static CachedPatient from(Patient patient) {
+        return new CachedPatient(
+            patient.getPatientId(),
+            patient.getName(),
+            patient.getAge(),
+            patient.getGender(),
+            patient.getHasDisease(),
+            patient.getImageFileName(),
+            patient.hasImage(),
+            patient.getCreatedAt(),
+            patient.getUpdatedAt()
+        );
+    }
+}
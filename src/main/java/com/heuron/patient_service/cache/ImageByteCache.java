@@ -0,0 +1,174 @@
+package com.heuron.patient_service.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.heuron.patient_service.repository.PatientRepository;
+import com.heuron.patient_service.util.FileUploadUtil;
+import com.heuron.patient_service.util.ImageSize;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.Resource;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Supplier;
+
+/**
+ * 이미지 바이트 캐시 (image.cache.enabled=true 일 때만 사용)
+ * 자주 조회되는 이미지 파일 내용을 힙 밖 direct ByteBuffer에 보관하여 파일 열기/읽기 없이 제공
+ * 저장 파일명은 업로드마다 새로 생성되므로 (내용 주소 저장 시에는 내용이 같음) 같은 이름의 내용은 바뀌지 않고,
+ * 파일 정리 이벤트로 더 이상 쓰지 않는 이름만 무효화 (FileCleanupEventListener)
+ * 바이트 예산(max-size) 안에서 Caffeine W-TinyLFU (LRU + 조회 빈도) 로 제거하며,
+ * 제거된 버퍼의 메모리는 GC 시 해제되므로 -XX:MaxDirectMemorySize 는 예산보다 여유 있게 설정
+ */
+@Slf4j
+@Component
+public class ImageByteCache {
+
+    private static final String CACHE_NAME = "image";
+
+    private final FileUploadUtil fileUploadUtil;
+    private final PatientRepository patientRepository;
+    private final boolean enabled;
+    private final long maxEntrySize;
+    private final int warmUpCount;
+    private final Cache<String, ByteBuffer> cache;
+
+    public ImageByteCache(
+            FileUploadUtil fileUploadUtil,
+            PatientRepository patientRepository,
+            MeterRegistry meterRegistry,
+            @Value("${image.cache.enabled:false}") boolean enabled,
+            @Value("${image.cache.max-size:256MB}") DataSize maxSize,
+            @Value("${image.cache.max-entry-size:2MB}") DataSize maxEntrySize,
+            @Value("${image.cache.warm-up-count:0}") int warmUpCount) {
+        this.fileUploadUtil = fileUploadUtil;
+        this.patientRepository = patientRepository;
+        this.enabled = enabled;
+        this.maxEntrySize = Math.min(maxEntrySize.toBytes(), Integer.MAX_VALUE);
+        this.warmUpCount = warmUpCount;
+        this.cache = Caffeine.newBuilder()
+            .maximumWeight(maxSize.toBytes())
+            .weigher((String fileName, ByteBuffer content) -> content.capacity())
+            .recordStats()
+            .build();
+
+        if (enabled) {
+            CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+            Gauge.builder("image.cache.bytes", this, ImageByteCache::weightedSize)
+                .description("Bytes of image content held in the off-heap image cache")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        }
+    }
+
+    /**
+     * 캐시된 이미지, 없으면 파일을 읽어 적재 후 반환
+     * 캐시가 비활성화되어 있거나 max-entry-size 보다 큰 파일은 파일 Resource 그대로 반환 (sendfile 대상)
+     */
+    public Resource resolve(String fileName, Supplier<Resource> fileLoader) {
+        if (!enabled) {
+            return fileLoader.get();
+        }
+
+        Resource[] file = new Resource[1];
+        ByteBuffer content = cache.get(fileName, name -> {
+            file[0] = fileLoader.get();
+            return read(name, file[0]);
+        });
+        if (content != null) {
+            return new CachedImageResource(fileName, content);
+        }
+        return file[0] != null ? file[0] : fileLoader.get();
+    }
+
+    /**
+     * 캐시에 있으면 파일이 존재함을 뜻함 (축소본 존재 확인의 디스크 접근 생략용)
+     */
+    public boolean contains(String fileName) {
+        return enabled && cache.asMap().containsKey(fileName);
+    }
+
+    /**
+     * 원본과 축소본 무효화
+     */
+    public void invalidate(String fileName) {
+        if (!enabled || fileName == null) {
+            return;
+        }
+        cache.invalidate(fileName);
+        for (ImageSize size : ImageSize.values()) {
+            if (size.isDerivative()) {
+                cache.invalidate(fileUploadUtil.getDerivativeFileName(fileName, size));
+            }
+        }
+        log.debug("Image cache invalidated: fileName={}", fileName);
+    }
+
+    /**
+     * 최근 업로드된 이미지 미리 적재 (image.cache.warm-up-count > 0 일 때)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!enabled || warmUpCount <= 0) {
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        int loaded = 0;
+        for (String fileName : patientRepository.findRecentImageFileNames(Limit.of(warmUpCount))) {
+            try {
+                if (resolve(fileName, () -> fileUploadUtil.loadFileAsResource(fileName)) instanceof CachedImageResource) {
+                    loaded++;
+                }
+            } catch (RuntimeException e) {
+                log.warn("Image cache warm-up skipped: fileName={}, reason={}", fileName, e.getMessage());
+            }
+        }
+        cache.cleanUp();
+        log.info("Image cache warmed up: loaded={}, bytes={}, elapsedMs={}",
+            loaded, weightedSize(),
+            (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    private long weightedSize() {
+        return cache.policy().eviction()
+            .map(eviction -> eviction.weightedSize().orElse(0L))
+            .orElse(0L);
+    }
+
+    // 파일 전체를 direct 버퍼로 읽음 (캐시하지 않으면 null)
+    private ByteBuffer read(String fileName, Resource resource) {
+        try {
+            if (!resource.isFile() || resource.contentLength() > maxEntrySize) {
+                return null;
+            }
+            Path path = resource.getFile().toPath();
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                long size = channel.size();
+                if (size > maxEntrySize) {
+                    return null;
+                }
+                ByteBuffer content = ByteBuffer.allocateDirect((int) size);
+                while (content.hasRemaining() && channel.read(content) >= 0) {
+                    // 파일 끝까지 읽기
+                }
+                return content.flip().asReadOnlyBuffer();
+            }
+        } catch (IOException e) {
+            log.warn("Failed to cache image: fileName={}, reason={}", fileName, e.getMessage());
+            return null;
+        }
+    }
+}
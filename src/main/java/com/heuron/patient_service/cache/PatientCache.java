@@ -0,0 +1,59 @@
+package com.heuron.patient_service.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.heuron.patient_service.datasource.ReadRouting;
+import com.heuron.patient_service.repository.PatientRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 단건 환자 조회 캐시
+ * 크기/TTL 제한이 있는 프로세스 내 캐시로, 변경 시 커밋 이후 무효화 (PatientCacheEventListener)
+ * 적중/미스/제거 통계는 Micrometer cache.* 지표로 노출
+ */
+@Slf4j
+@Component
+public class PatientCache {
+
+    private static final String CACHE_NAME = "patient";
+
+    private final PatientRepository patientRepository;
+    private final Cache<Long, CachedPatient> cache;
+
+    public PatientCache(
+            PatientRepository patientRepository,
+            MeterRegistry meterRegistry,
+            @Value("${patient.cache.maximum-size:10000}") long maximumSize,
+            @Value("${patient.cache.expire-after-write:5m}") Duration expireAfterWrite) {
+        this.patientRepository = patientRepository;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(expireAfterWrite)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시 조회, 없으면 DB에서 읽어 적재 (존재하지 않는 환자는 캐시하지 않음)
+     * 복제 지연된 값이 TTL 동안 남지 않도록 적재는 primary에서 읽음
+     */
+    public Optional<CachedPatient> findById(Long patientId) {
+        return Optional.ofNullable(cache.get(patientId, id -> ReadRouting.onPrimary(() ->
+            patientRepository.findById(id)
+                .map(CachedPatient::from)
+                .orElse(null))));
+    }
+
+    public void invalidate(Long patientId) {
+        cache.invalidate(patientId);
+        log.debug("Patient cache invalidated: patientId={}", patientId);
+    }
+}
@@ -0,0 +1,54 @@
+package com.heuron.patient_service.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Slf4j
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    /**
+     * 축소본 생성 전용 스레드 풀
+     * 큐가 가득 차면 작업을 버림 (축소본이 없으면 원본으로 대체 제공되므로 안전)
+     * 가상 스레드 모드에서도 풀 크기가 동시 실행 수 상한으로 유지됨
+     */
+    @Bean
+    public ThreadPoolTaskExecutor thumbnailExecutor(
+            @Value("${image.derivative.pool-size:2}") int poolSize,
+            @Value("${image.derivative.queue-capacity:100}") int queueCapacity,
+            Environment environment) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        // spring.threads.virtual.enabled=true 이고 Java 21 이상일 때만 활성화
+        executor.setVirtualThreads(Threading.VIRTUAL.isActive(environment));
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("thumbnail-");
+        executor.setRejectedExecutionHandler((task, pool) ->
+            log.warn("Thumbnail queue full, derivative generation skipped"));
+        return executor;
+    }
+
+    /**
+     * CSV 가져오기 작업 전용 스레드 풀
+     * 동시 실행 작업 수를 제한하고 나머지는 순서대로 대기
+     */
+    @Bean
+    public ThreadPoolTaskExecutor importExecutor(
+            @Value("${patient.import.concurrency:1}") int concurrency,
+            Environment environment) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setVirtualThreads(Threading.VIRTUAL.isActive(environment));
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setThreadNamePrefix("import-");
+        return executor;
+    }
+}
@@ -0,0 +1,101 @@
+package com.heuron.patient_service.config;
+
+import com.heuron.patient_service.datasource.ReadYourWritesTracker;
+import com.heuron.patient_service.datasource.ReplicaRoutingDataSource;
+import com.heuron.patient_service.datasource.WriteTrackingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.TaskScheduler;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기/쓰기 DataSource 분리 (datasource.routing.enabled=true 일 때만)
+ * 커넥션을 첫 쿼리 시점까지 미루는 LazyConnectionDataSourceProxy로 트랜잭션의 readOnly 여부를 보고
+ * 읽기 전용 트랜잭션은 복제본 풀, 나머지는 primary 풀 (spring.datasource.*) 에서 커넥션을 가져옴
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "datasource.routing.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties, Environment environment) {
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        if (primary.getPoolName() == null) {
+            primary.setPoolName("primary");
+        }
+        return primary;
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            HikariDataSource primaryDataSource,
+            ReadYourWritesTracker readYourWritesTracker,
+            MeterRegistry meterRegistry,
+            TaskScheduler taskScheduler,
+            @Value("${datasource.routing.replica-urls}") List<String> replicaUrls,
+            @Value("${datasource.routing.replica-pool-size:10}") int replicaPoolSize,
+            @Value("${datasource.routing.health-check-interval:5s}") Duration healthCheckInterval) {
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (String url : replicaUrls) {
+            if (url.isBlank()) {
+                continue;
+            }
+            // 계정/드라이버/타임아웃은 primary 설정을 그대로 사용
+            HikariDataSource replica = new HikariDataSource();
+            primaryDataSource.copyStateTo(replica);
+            replica.setJdbcUrl(url.trim());
+            replica.setPoolName("replica-" + (replicas.size() + 1));
+            replica.setMaximumPoolSize(replicaPoolSize);
+            replica.setReadOnly(true);
+            replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            replicas.add(replica);
+        }
+        if (replicas.isEmpty()) {
+            throw new IllegalStateException("datasource.routing.replica-urls must list at least one replica");
+        }
+        log.info("Read-only transactions routed to {} replica(s)", replicas.size());
+
+        ReplicaRoutingDataSource routingDataSource =
+            new ReplicaRoutingDataSource(primaryDataSource, replicas, readYourWritesTracker, meterRegistry);
+        taskScheduler.scheduleWithFixedDelay(routingDataSource::checkReplicas, healthCheckInterval);
+        return routingDataSource;
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(
+            @Value("${datasource.routing.read-your-writes-window:5s}") Duration window) {
+        return new ReadYourWritesTracker(window);
+    }
+
+    /**
+     * 애플리케이션 전체가 사용하는 DataSource (JPA, JdbcTemplate, 헬스 체크)
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource,
+                                 ReplicaRoutingDataSource replicaRoutingDataSource,
+                                 ReadYourWritesTracker readYourWritesTracker) {
+        LazyConnectionDataSourceProxy dataSource =
+            new LazyConnectionDataSourceProxy(new WriteTrackingDataSource(primaryDataSource, readYourWritesTracker));
+        dataSource.setReadOnlyDataSource(replicaRoutingDataSource);
+        return dataSource;
+    }
+}
@@ -0,0 +1,106 @@
+package com.heuron.patient_service.controller;
+
+import com.heuron.patient_service.dto.ImageUploadResponseDto;
+import com.heuron.patient_service.dto.ImageUploadSessionDto;
+import com.heuron.patient_service.dto.ImageUploadSessionRequestDto;
+import com.heuron.patient_service.service.ImageUploadSessionService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.net.URI;
+
+@Tag(name = "Image Upload Session", description = "이미지 분할 업로드 API (재개 가능)")
+@RestController
+@RequestMapping("/api/patients/{patientId}/image/uploads")
+@RequiredArgsConstructor
+public class ImageUploadSessionController {
+
+    private final ImageUploadSessionService imageUploadSessionService;
+
+    @Operation(summary = "업로드 세션 생성", description = "파일명(확장자 확인)과 전체 크기로 분할 업로드 세션을 만듭니다. "
+        + "이후 청크를 offset 순서대로 전송하고 완료를 요청합니다. 세션은 만료 시각 이후 삭제됩니다.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "세션 생성",
+            content = @Content(schema = @Schema(implementation = ImageUploadSessionDto.class))),
+        @ApiResponse(responseCode = "400", description = "허용되지 않는 파일 형식 또는 크기 제한 초과"),
+        @ApiResponse(responseCode = "404", description = "환자를 찾을 수 없음")
+    })
+    @PostMapping
+    public ResponseEntity<ImageUploadSessionDto> createSession(
+            @Parameter(description = "환자 ID") @PathVariable Long patientId,
+            @Valid @RequestBody ImageUploadSessionRequestDto request) throws IOException {
+        ImageUploadSessionDto response = imageUploadSessionService.createSession(patientId, request);
+        return ResponseEntity.created(URI.create(response.uploadUrl())).body(response);
+    }
+
+    @Operation(summary = "업로드 세션 조회", description = "저장된 바이트 수(offset)를 조회합니다. 연결이 끊긴 뒤에는 이 offset부터 이어서 전송합니다.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "조회 성공",
+            content = @Content(schema = @Schema(implementation = ImageUploadSessionDto.class))),
+        @ApiResponse(responseCode = "404", description = "세션을 찾을 수 없음 (만료되었거나 완료됨)")
+    })
+    @GetMapping("/{uploadId}")
+    public ResponseEntity<ImageUploadSessionDto> getSession(
+            @Parameter(description = "환자 ID") @PathVariable Long patientId,
+            @Parameter(description = "업로드 세션 ID") @PathVariable String uploadId) throws IOException {
+        return ResponseEntity.ok(imageUploadSessionService.getSession(patientId, uploadId));
+    }
+
+    @Operation(summary = "청크 전송", description = "요청 본문(application/octet-stream)의 바이트를 offset 위치에 기록합니다. offset은 현재 저장된 바이트 수와 같아야 합니다.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "기록 성공 (응답의 offset이 다음 청크 위치)",
+            content = @Content(schema = @Schema(implementation = ImageUploadSessionDto.class))),
+        @ApiResponse(responseCode = "400", description = "세션의 파일 크기 초과"),
+        @ApiResponse(responseCode = "404", description = "세션을 찾을 수 없음"),
+        @ApiResponse(responseCode = "409", description = "offset 불일치 또는 같은 세션에 처리 중인 요청 있음")
+    })
+    @PutMapping(value = "/{uploadId}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<ImageUploadSessionDto> appendChunk(
+            @Parameter(description = "환자 ID") @PathVariable Long patientId,
+            @Parameter(description = "업로드 세션 ID") @PathVariable String uploadId,
+            @Parameter(description = "청크 시작 위치 (현재 저장된 바이트 수)") @RequestParam long offset,
+            HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(imageUploadSessionService.appendChunk(patientId, uploadId, offset, request.getInputStream()));
+    }
+
+    @Operation(summary = "업로드 완료", description = "전체 크기가 전송되었는지 확인하고 파일 형식을 검증한 뒤 환자 이미지로 저장합니다. 기존 이미지가 있을 경우 덮어씁니다.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "이미지 업로드 성공",
+            content = @Content(schema = @Schema(implementation = ImageUploadResponseDto.class))),
+        @ApiResponse(responseCode = "400", description = "잘못된 파일 형식 (세션 폐기)"),
+        @ApiResponse(responseCode = "404", description = "세션 또는 환자를 찾을 수 없음"),
+        @ApiResponse(responseCode = "409", description = "아직 전송되지 않은 바이트가 있거나 같은 세션에 처리 중인 요청 있음")
+    })
+    @PostMapping("/{uploadId}/complete")
+    public ResponseEntity<ImageUploadResponseDto> complete(
+            @Parameter(description = "환자 ID") @PathVariable Long patientId,
+            @Parameter(description = "업로드 세션 ID") @PathVariable String uploadId) throws IOException {
+        return ResponseEntity.ok(imageUploadSessionService.complete(patientId, uploadId));
+    }
+
+    @Operation(summary = "업로드 취소", description = "세션과 전송된 임시 파일을 삭제합니다.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "취소 성공"),
+        @ApiResponse(responseCode = "404", description = "세션을 찾을 수 없음"),
+        @ApiResponse(responseCode = "409", description = "같은 세션에 처리 중인 요청 있음")
+    })
+    @DeleteMapping("/{uploadId}")
+    public ResponseEntity<Void> cancel(
+            @Parameter(description = "환자 ID") @PathVariable Long patientId,
+            @Parameter(description = "업로드 세션 ID") @PathVariable String uploadId) throws IOException {
+        imageUploadSessionService.cancel(patientId, uploadId);
+        return ResponseEntity.noContent().build();
+    }
+}
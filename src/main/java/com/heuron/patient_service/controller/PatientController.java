@@ -1,11 +1,23 @@
 package com.heuron.patient_service.controller;
 
+import com.heuron.patient_service.dto.CursorResponse;
 import com.heuron.patient_service.dto.ImageUploadResponseDto;
+import com.heuron.patient_service.dto.PatientBatchResponseDto;
 import com.heuron.patient_service.dto.PatientRequestDto;
 import com.heuron.patient_service.dto.PatientResponseDto;
+import com.heuron.patient_service.dto.PatientSearchCondition;
+import com.heuron.patient_service.dto.PatientStatsDto;
 import com.heuron.patient_service.dto.PaginatedResponse;
 import com.heuron.patient_service.service.ImageService;
+import com.heuron.patient_service.service.PatientBatchService;
+import com.heuron.patient_service.service.PatientExportService;
+import com.heuron.patient_service.service.PatientImageArchiveService;
 import com.heuron.patient_service.service.PatientService;
+import com.heuron.patient_service.service.PatientStatsService;
+import com.heuron.patient_service.entity.Gender;
+import com.heuron.patient_service.util.ExportFormat;
+import com.heuron.patient_service.util.ImageSize;
+import com.heuron.patient_service.util.SendfileSupport;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -13,19 +25,28 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
 
 @Tag(name = "Patient", description = "환자 정보 관리 API")
 @RestController
@@ -33,8 +54,23 @@ import java.io.IOException;
 @RequiredArgsConstructor
 public class PatientController {
 
+    // 같은 URL의 이미지가 재업로드로 바뀔 수 있으므로 저장은 허용하되 매번 재검증
+    private static final CacheControl IMAGE_CACHE_CONTROL = CacheControl.noCache();
+
     private final PatientService patientService;
+    private final PatientBatchService patientBatchService;
+    private final PatientExportService patientExportService;
+    private final PatientImageArchiveService patientImageArchiveService;
+    private final PatientStatsService patientStatsService;
     private final ImageService imageService;
+    private final SendfileSupport sendfileSupport;
+
+    // 스트리밍 응답의 비동기 처리 제한 시간 (해당 엔드포인트에만 적용)
+    @Value("${patient.export.timeout:30m}")
+    private Duration exportTimeout;
+
+    @Value("${patient.archive.timeout:30m}")
+    private Duration archiveTimeout;
 
     @Operation(summary = "환자 정보 저장", description = "환자의 기본 정보(이름, 나이, 성별, 질병 여부)를 저장합니다. (1단계)")
     @ApiResponses(value = {
@@ -48,6 +84,18 @@ public class PatientController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @Operation(summary = "환자 정보 일괄 저장", description = "환자 정보 배열을 항목별로 검증한 뒤 청크 단위로 일괄 저장합니다. 항목별 성공/실패 결과를 요청 순서대로 반환합니다.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "일괄 저장 처리 완료 (항목별 결과 포함)",
+            content = @Content(schema = @Schema(implementation = PatientBatchResponseDto.class))),
+        @ApiResponse(responseCode = "400", description = "최대 항목 수 초과")
+    })
+    @PostMapping("/batch")
+    public ResponseEntity<PatientBatchResponseDto> createPatients(@RequestBody List<PatientRequestDto> requestDtos) {
+        PatientBatchResponseDto response = patientBatchService.createPatients(requestDtos);
+        return ResponseEntity.ok(response);
+    }
+
     @Operation(summary = "환자 목록 조회", description = "저장된 환자 정보를 페이징하여 조회합니다. imageUploaded=true인 환자만 필터링 가능합니다.")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "환자 목록 조회 성공")
@@ -62,6 +110,111 @@ public class PatientController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "환자 목록 내보내기", description = "전체 환자 정보를 단일 쿼리로 읽어 NDJSON 또는 CSV로 스트리밍합니다. imageUploaded로 필터링 가능합니다.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "내보내기 시작 (응답 본문 스트리밍)"),
+        @ApiResponse(responseCode = "400", description = "지원하지 않는 형식")
+    })
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportPatients(
+            @Parameter(description = "내보내기 형식 (ndjson, csv)") @RequestParam(defaultValue = "ndjson") String format,
+            @Parameter(description = "이미지 업로드 여부 필터 (true: 업로드된 환자만)") @RequestParam(required = false) Boolean imageUploaded,
+            HttpServletRequest request) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        setAsyncTimeout(request, exportTimeout);
+        StreamingResponseBody body = out -> patientExportService.export(exportFormat, imageUploaded, out);
+
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"patients." + exportFormat.getKey() + "\"")
+            .body(body);
+    }
+
+    @Operation(summary = "환자 이미지 압축 다운로드", description = "지정한 환자(ids)의 원본 이미지를 ZIP으로 스트리밍합니다. ids를 생략하면 이미지가 업로드된 전체 환자가 대상입니다. "
+        + "ID 목록이 길면 POST로 요청합니다.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "다운로드 시작 (응답 본문 스트리밍)",
+            content = @Content(mediaType = "application/zip")),
+        @ApiResponse(responseCode = "400", description = "최대 환자 수 초과")
+    })
+    @GetMapping("/images/archive")
+    public ResponseEntity<StreamingResponseBody> downloadImageArchive(
+            @Parameter(description = "환자 ID 목록 (생략 시 이미지가 업로드된 전체 환자)") @RequestParam(required = false) List<Long> ids,
+            HttpServletRequest request) {
+        return imageArchiveResponse(ids, request);
+    }
+
+    @Operation(summary = "환자 이미지 압축 다운로드 (ID 목록 본문)", description = "요청 본문의 환자 ID 배열에 해당하는 원본 이미지를 ZIP으로 스트리밍합니다.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "다운로드 시작 (응답 본문 스트리밍)",
+            content = @Content(mediaType = "application/zip")),
+        @ApiResponse(responseCode = "400", description = "최대 환자 수 초과")
+    })
+    @PostMapping("/images/archive")
+    public ResponseEntity<StreamingResponseBody> downloadImageArchiveByIds(@RequestBody List<Long> ids, HttpServletRequest request) {
+        return imageArchiveResponse(ids, request);
+    }
+
+    private ResponseEntity<StreamingResponseBody> imageArchiveResponse(List<Long> ids, HttpServletRequest request) {
+        List<Long> patientIds = patientImageArchiveService.normalizeIds(ids);
+        setAsyncTimeout(request, archiveTimeout);
+        StreamingResponseBody body = out -> patientImageArchiveService.writeArchive(patientIds, out);
+
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType("application/zip"))
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"patient-images.zip\"")
+            .body(body);
+    }
+
+    @Operation(summary = "환자 목록 커서 조회", description = "patient_id 기준 커서(keyset) 방식으로 환자 목록을 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달하며, 페이지 깊이와 무관하게 일정한 속도로 조회됩니다.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "환자 목록 조회 성공"),
+        @ApiResponse(responseCode = "400", description = "유효하지 않은 커서")
+    })
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorResponse<PatientResponseDto>> scrollPatients(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 1000)") @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "이미지 업로드 여부 필터 (true: 업로드된 환자만)") @RequestParam(required = false) Boolean imageUploaded,
+            @Parameter(description = "전체 항목 수 포함 여부 (COUNT 쿼리 추가 실행)") @RequestParam(defaultValue = "false") boolean includeTotal) {
+        CursorResponse<PatientResponseDto> response = patientService.scrollPatients(cursor, size, imageUploaded, includeTotal);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "환자 검색", description = "이름 접두어, 나이 범위, 성별, 질병 여부, 이미지 업로드 여부로 환자를 검색합니다. 생략한 조건은 적용하지 않으며, "
+        + "결과는 patient_id 순 커서(keyset) 방식으로 조회합니다.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "환자 검색 성공"),
+        @ApiResponse(responseCode = "400", description = "유효하지 않은 커서 또는 검색 조건")
+    })
+    @GetMapping("/search")
+    public ResponseEntity<CursorResponse<PatientResponseDto>> searchPatients(
+            @Parameter(description = "이름 접두어 (예: 김)") @RequestParam(required = false) String name,
+            @Parameter(description = "최소 나이 (포함)") @RequestParam(required = false) Integer minAge,
+            @Parameter(description = "최대 나이 (포함)") @RequestParam(required = false) Integer maxAge,
+            @Parameter(description = "성별 (M, F)") @RequestParam(required = false) Gender gender,
+            @Parameter(description = "질병 여부") @RequestParam(required = false) Boolean hasDisease,
+            @Parameter(description = "이미지 업로드 여부") @RequestParam(required = false) Boolean imageUploaded,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 1000)") @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "전체 항목 수 포함 여부 (COUNT 쿼리 추가 실행)") @RequestParam(defaultValue = "false") boolean includeTotal) {
+        PatientSearchCondition condition = new PatientSearchCondition(name, minAge, maxAge, gender, hasDisease, imageUploaded);
+        CursorResponse<PatientResponseDto> response = patientService.searchPatients(condition, cursor, size, includeTotal);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "환자 통계 조회", description = "성별, 나이대, 질병 여부, 이미지 업로드 여부별 환자 수를 조회합니다. "
+        + "변경 시 갱신되는 카운터를 반환하므로 테이블 크기와 무관하게 일정한 속도로 응답하며, 주기적으로 DB 집계와 맞춥니다. "
+        + "카운터는 인스턴스별로 유지되므로 다른 인스턴스의 변경은 다음 보정 시점에 반영됩니다.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "통계 조회 성공",
+            content = @Content(schema = @Schema(implementation = PatientStatsDto.class)))
+    })
+    @GetMapping("/stats")
+    public ResponseEntity<PatientStatsDto> getStats() {
+        return ResponseEntity.ok(patientStatsService.getStats());
+    }
+
     @Operation(summary = "환자 상세 조회", description = "특정 환자의 상세 정보를 조회합니다.")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "환자 정보 조회 성공",
@@ -90,19 +243,61 @@ public class PatientController {
         return ResponseEntity.ok(response);
     }
 
-    @Operation(summary = "이미지 조회", description = "환자의 이미지 파일을 조회합니다. 브라우저에서 직접 URL 입력 시 이미지가 표시됩니다.")
+    @Operation(summary = "이미지 조회", description = "환자의 이미지 파일을 조회합니다. 브라우저에서 직접 URL 입력 시 이미지가 표시됩니다. "
+        + "ETag/Last-Modified 기반 조건부 요청(304)과 Range 요청(206)을 지원하며, 큰 파일은 sendfile로 전송합니다. "
+        + "size=thumb|medium 지정 시 축소본을 제공하며, 축소본 생성 전에는 원본을 제공합니다.")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "이미지 조회 성공",
             content = @Content(mediaType = "image/jpeg")),
+        @ApiResponse(responseCode = "206", description = "이미지 부분 조회 성공 (Range 요청)"),
+        @ApiResponse(responseCode = "304", description = "이미지 변경 없음 (If-None-Match / If-Modified-Since)"),
         @ApiResponse(responseCode = "404", description = "이미지를 찾을 수 없음")
     })
     @GetMapping("/{patientId}/image")
     public ResponseEntity<Resource> getImage(
-            @Parameter(description = "환자 ID") @PathVariable Long patientId) throws IOException {
-        Resource resource = imageService.getImage(patientId);
+            @Parameter(description = "환자 ID") @PathVariable Long patientId,
+            @Parameter(description = "이미지 크기 (thumb, medium, original)") @RequestParam(required = false) String size,
+            WebRequest webRequest,
+            HttpServletRequest request) throws IOException {
+        // 축소본 여부에 따라 파일명이 달라지므로 ETag도 크기별로 구분됨
+        String fileName = imageService.resolveImageFileName(
+            imageService.getImageFileName(patientId), ImageSize.from(size));
+        String eTag = imageService.getImageETag(fileName);
+        long lastModified = imageService.getImageLastModified(fileName);
+
+        // 변경이 없으면 파일을 열지 않고 304 응답 (ETag/Last-Modified 헤더는 checkNotModified가 설정)
+        if (webRequest.checkNotModified(eTag, lastModified)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .cacheControl(IMAGE_CACHE_CONTROL)
+                .build();
+        }
+
+        Resource resource = imageService.loadImage(fileName);
         String mediaType = imageService.getImageMediaType(resource.getFilename());
 
+        // sendfile 가능하면 헤더만 반환하고 본문(전체 또는 단일 Range)은 컨테이너가 파일에서 소켓으로 직접 전송
+        Optional<SendfileSupport.FileRegion> region = sendfileSupport.prepare(request, resource);
+        if (region.isPresent()) {
+            SendfileSupport.FileRegion fileRegion = region.get();
+            ResponseEntity.BodyBuilder builder = ResponseEntity.status(fileRegion.partial() ? HttpStatus.PARTIAL_CONTENT : HttpStatus.OK)
+                .eTag(eTag)
+                .lastModified(lastModified)
+                .cacheControl(IMAGE_CACHE_CONTROL)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + resource.getFilename() + "\"")
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .contentType(MediaType.parseMediaType(mediaType))
+                .contentLength(fileRegion.length());
+            if (fileRegion.partial()) {
+                builder.header(HttpHeaders.CONTENT_RANGE, fileRegion.contentRange());
+            }
+            return builder.build();
+        }
+
+        // Range 요청은 ResponseEntity<Resource> 처리 시 206 부분 응답으로 변환됨
         return ResponseEntity.ok()
+            .eTag(eTag)
+            .lastModified(lastModified)
+            .cacheControl(IMAGE_CACHE_CONTROL)
             .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + resource.getFilename() + "\"")
             .contentType(MediaType.parseMediaType(mediaType))
             .body(resource);
@@ -119,4 +314,9 @@ public class PatientController {
         patientService.deletePatient(patientId);
         return ResponseEntity.noContent().build();
     }
+
+    // 이 요청의 비동기 처리 제한 시간 (StreamingResponseBody 처리 시작 전에 지정해야 적용됨)
+    private static void setAsyncTimeout(HttpServletRequest request, Duration timeout) {
+        WebAsyncUtils.getAsyncManager(request).getAsyncWebRequest().setTimeout(timeout.toMillis());
+    }
 }
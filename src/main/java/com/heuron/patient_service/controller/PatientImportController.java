@@ -0,0 +1,89 @@
+package com.heuron.patient_service.controller;
+
+import com.heuron.patient_service.dto.PatientImportJobDto;
+import com.heuron.patient_service.service.PatientImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.parameters.RequestBody;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.net.URI;
+
+@Tag(name = "Patient Import", description = "환자 CSV 일괄 가져오기 API")
+@RestController
+@RequestMapping("/api/patients/import")
+@RequiredArgsConstructor
+public class PatientImportController {
+
+    private final PatientImportService patientImportService;
+
+    @Operation(summary = "환자 CSV 가져오기 시작", description = "요청 본문의 CSV(헤더: name,age,gender,hasDisease)를 저장한 뒤 백그라운드에서 가져옵니다. "
+        + "진행 상황은 반환된 작업 ID로 조회합니다. 오류 행은 건너뛰고 오류 리포트에 기록합니다.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "202", description = "가져오기 작업 등록",
+            content = @Content(schema = @Schema(implementation = PatientImportJobDto.class))),
+        @ApiResponse(responseCode = "400", description = "빈 파일 또는 크기 제한 초과")
+    })
+    @PostMapping(consumes = {"text/csv", MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public ResponseEntity<PatientImportJobDto> startImport(
+            @RequestBody(description = "가져올 CSV (UTF-8)", content = @Content(mediaType = "text/csv"))
+            HttpServletRequest request) throws IOException {
+        PatientImportJobDto response = patientImportService.startImport(request.getInputStream());
+        return ResponseEntity.accepted()
+            .location(URI.create("/api/patients/import/" + response.jobId()))
+            .body(response);
+    }
+
+    @Operation(summary = "가져오기 진행 상황 조회", description = "처리 행 수, 저장/오류 행 수, 진행률을 조회합니다.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "조회 성공",
+            content = @Content(schema = @Schema(implementation = PatientImportJobDto.class))),
+        @ApiResponse(responseCode = "404", description = "작업을 찾을 수 없음")
+    })
+    @GetMapping("/{jobId}")
+    public ResponseEntity<PatientImportJobDto> getJob(
+            @Parameter(description = "작업 ID") @PathVariable Long jobId) {
+        return ResponseEntity.ok(patientImportService.getJob(jobId));
+    }
+
+    @Operation(summary = "가져오기 재개", description = "실패했거나 중단된 작업을 마지막으로 커밋된 행 다음부터 이어서 처리합니다.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "202", description = "재개 요청 접수",
+            content = @Content(schema = @Schema(implementation = PatientImportJobDto.class))),
+        @ApiResponse(responseCode = "404", description = "작업을 찾을 수 없음"),
+        @ApiResponse(responseCode = "409", description = "완료되었거나 진행 중인 작업")
+    })
+    @PostMapping("/{jobId}/resume")
+    public ResponseEntity<PatientImportJobDto> resume(
+            @Parameter(description = "작업 ID") @PathVariable Long jobId) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(patientImportService.resume(jobId));
+    }
+
+    @Operation(summary = "오류 리포트 다운로드", description = "검증에 실패한 행 목록(행 번호, 오류 내용, 원본 컬럼)을 CSV로 내려받습니다.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "다운로드 성공", content = @Content(mediaType = "text/csv")),
+        @ApiResponse(responseCode = "404", description = "작업 또는 리포트를 찾을 수 없음")
+    })
+    @GetMapping("/{jobId}/errors")
+    public ResponseEntity<Resource> getErrorReport(
+            @Parameter(description = "작업 ID") @PathVariable Long jobId) {
+        Resource report = patientImportService.getErrorReport(jobId);
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType("text/csv;charset=UTF-8"))
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"import-" + jobId + "-errors.csv\"")
+            .body(report);
+    }
+}
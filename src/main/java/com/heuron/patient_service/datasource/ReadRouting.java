@@ -0,0 +1,35 @@
+package com.heuron.patient_service.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * 읽기 전용 트랜잭션이라도 primary에서 읽어야 하는 구간 지정
+ * 복제 지연이 결과를 오래 남기는 경우 (캐시 적재, 카운터 보정) 에 사용
+ * 커넥션은 트랜잭션의 첫 쿼리 시점에 정해지므로 그 전에 감싸야 적용됨
+ * 라우팅이 비활성화되어 있으면 아무 효과 없음
+ */
+public final class ReadRouting {
+
+    private static final ThreadLocal<Boolean> PRIMARY_FORCED = new ThreadLocal<>();
+
+    private ReadRouting() {
+    }
+
+    public static <T> T onPrimary(Supplier<T> supplier) {
+        Boolean previous = PRIMARY_FORCED.get();
+        PRIMARY_FORCED.set(Boolean.TRUE);
+        try {
+            return supplier.get();
+        } finally {
+            if (previous == null) {
+                PRIMARY_FORCED.remove();
+            } else {
+                PRIMARY_FORCED.set(previous);
+            }
+        }
+    }
+
+    static boolean isPrimaryForced() {
+        return PRIMARY_FORCED.get() != null;
+    }
+}
@@ -0,0 +1,100 @@
+package com.heuron.patient_service.datasource;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+
+/**
+ * 쓰기 직후 읽기 고정 (read-your-writes)
+ * 쓰기 트랜잭션을 실행한 요청의 응답에 고정 만료 시각 쿠키를 내려주고,
+ * 쿠키가 유효한 동안 같은 클라이언트의 읽기 전용 트랜잭션은 복제본 대신 primary에서 처리
+ * 서버에 클라이언트 상태를 두지 않으므로 인스턴스가 여러 개여도 동일하게 동작
+ * HTTP 요청 밖 (스케줄러, 비동기 작업) 에서는 적용하지 않음
+ */
+public class ReadYourWritesTracker {
+
+    static final String COOKIE_NAME = "primary-read-until";
+
+    private static final String PINNED_UNTIL_ATTRIBUTE = ReadYourWritesTracker.class.getName() + ".PINNED_UNTIL";
+    private static final String WRITTEN_ATTRIBUTE = ReadYourWritesTracker.class.getName() + ".WRITTEN";
+
+    private final Duration window;
+
+    public ReadYourWritesTracker(Duration window) {
+        this.window = window;
+    }
+
+    /**
+     * 현재 요청에서 쓰기가 발생했음을 기록 (요청당 한 번만 쿠키 발급)
+     */
+    void markWrite() {
+        ServletRequestAttributes attributes = currentRequest();
+        if (attributes == null || window.isZero()) {
+            return;
+        }
+        if (attributes.getAttribute(WRITTEN_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) != null) {
+            return;
+        }
+        long until = System.currentTimeMillis() + window.toMillis();
+        attributes.setAttribute(WRITTEN_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+        attributes.setAttribute(PINNED_UNTIL_ATTRIBUTE, until, RequestAttributes.SCOPE_REQUEST);
+
+        HttpServletResponse response = attributes.getResponse();
+        if (response == null || response.isCommitted()) {
+            return;
+        }
+        ResponseCookie cookie = ResponseCookie.from(COOKIE_NAME, Long.toString(until))
+            .path("/")
+            .httpOnly(true)
+            .maxAge(window.toSeconds() + 1)
+            .sameSite("Lax")
+            .build();
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+    }
+
+    /**
+     * 현재 요청이 쓰기 직후 구간에 있는지 (같은 요청의 이전 쓰기 또는 쿠키 기준)
+     */
+    boolean isPinned() {
+        ServletRequestAttributes attributes = currentRequest();
+        if (attributes == null) {
+            return false;
+        }
+        Long pinnedUntil = (Long) attributes.getAttribute(PINNED_UNTIL_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (pinnedUntil == null) {
+            pinnedUntil = readCookie(attributes.getRequest());
+            attributes.setAttribute(PINNED_UNTIL_ATTRIBUTE, pinnedUntil, RequestAttributes.SCOPE_REQUEST);
+        }
+        return pinnedUntil > System.currentTimeMillis();
+    }
+
+    private static long readCookie(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return 0L;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue());
+                } catch (NumberFormatException e) {
+                    return 0L;
+                }
+            }
+        }
+        return 0L;
+    }
+
+    private static ServletRequestAttributes currentRequest() {
+        return RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes
+            ? attributes
+            : null;
+    }
+}
@@ -0,0 +1,139 @@
+package com.heuron.patient_service.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLTransientConnectionException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 트랜잭션용 DataSource
+ * 정상 상태인 복제본 중 하나를 순서대로 선택하고, 다음 경우에는 primary로 대체
+ * - 쓰기 직후 구간 (ReadYourWritesTracker) 또는 ReadRouting.onPrimary 구간
+ * - 정상 복제본이 없거나 커넥션 획득 실패 (실패한 복제본은 다음 상태 점검까지 제외)
+ * - 복제본 풀이 모두 가득 참 (복제본 상태는 바꾸지 않고 해당 요청만 대체)
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements Closeable {
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Counter fallbackCounter;
+
+    public ReplicaRoutingDataSource(DataSource primary, List<HikariDataSource> replicas,
+                                    ReadYourWritesTracker readYourWritesTracker, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replicas = replicas.stream().map(Replica::new).toList();
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.fallbackCounter = Counter.builder("datasource.replica.fallback")
+            .description("Read-only connections served by the primary because no replica was available")
+            .register(meterRegistry);
+        for (Replica replica : this.replicas) {
+            Gauge.builder("datasource.replica.up", replica, r -> r.up ? 1 : 0)
+                .description("Whether the replica is receiving read-only traffic")
+                .tag("pool", replica.dataSource.getPoolName())
+                .register(meterRegistry);
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (ReadRouting.isPrimaryForced() || readYourWritesTracker.isPinned()) {
+            return primary.getConnection();
+        }
+
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (!replica.up) {
+                continue;
+            }
+            try {
+                return replica.dataSource.getConnection();
+            } catch (SQLException | RuntimeException e) {
+                if (isPoolExhausted(e)) {
+                    // 복제본은 정상이고 풀만 가득 찬 경우: 이번 요청만 다른 곳으로 넘기고 상태는 유지
+                    log.debug("Replica pool exhausted, trying next: pool={}", replica.dataSource.getPoolName());
+                    continue;
+                }
+                markDown(replica, e.getMessage());
+            }
+        }
+
+        fallbackCounter.increment();
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Replica routing uses the pool credentials");
+    }
+
+    /**
+     * 풀 대기 시간 초과 여부
+     * Hikari는 커넥션 생성 실패로 인한 초과면 마지막 실패 원인을 cause로 담고, 단순히 풀이 가득 찬 경우에는 cause가 없음
+     */
+    static boolean isPoolExhausted(Exception e) {
+        return e instanceof SQLTransientConnectionException && e.getCause() == null;
+    }
+
+    /**
+     * 복제본 상태 점검 (주기 실행)
+     * 커넥션 유효성 검사에 실패하면 제외하고, 회복되면 다시 포함 (풀이 가득 차 검사하지 못하면 상태 유지)
+     */
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection()) {
+                if (connection.isValid(2)) {
+                    if (!replica.up) {
+                        replica.up = true;
+                        log.info("Replica is back in rotation: pool={}", replica.dataSource.getPoolName());
+                    }
+                } else {
+                    markDown(replica, "connection validation failed");
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (!isPoolExhausted(e)) {
+                    markDown(replica, e.getMessage());
+                }
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(replica -> replica.dataSource.close());
+    }
+
+    // 풀 초기화 실패는 RuntimeException (PoolInitializationException) 으로 전달됨
+    private void markDown(Replica replica, String reason) {
+        if (replica.up) {
+            replica.up = false;
+            log.warn("Replica removed from rotation, reads fall back to primary: pool={}, reason={}",
+                replica.dataSource.getPoolName(), reason);
+        }
+    }
+
+    private static final class Replica {
+
+        private final HikariDataSource dataSource;
+        private volatile boolean up = true;
+
+        private Replica(HikariDataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+    }
+}
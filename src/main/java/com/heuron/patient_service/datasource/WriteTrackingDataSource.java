@@ -0,0 +1,32 @@
+package com.heuron.patient_service.datasource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * primary 커넥션을 쓰기 트랜잭션이 가져갈 때 read-your-writes 구간 시작
+ * LazyConnectionDataSourceProxy 뒤에 있으므로 첫 쿼리 시점 (트랜잭션 속성이 정해진 뒤) 에 호출됨
+ */
+public class WriteTrackingDataSource extends DelegatingDataSource {
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    public WriteTrackingDataSource(DataSource primary, ReadYourWritesTracker readYourWritesTracker) {
+        super(primary);
+        this.readYourWritesTracker = readYourWritesTracker;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Connection connection = super.getConnection();
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            readYourWritesTracker.markWrite();
+        }
+        return connection;
+    }
+}
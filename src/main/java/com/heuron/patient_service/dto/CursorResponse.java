@@ -0,0 +1,23 @@
+package com.heuron.patient_service.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "커서 기반 페이징 응답")
+public record CursorResponse<T>(
+    @Schema(description = "현재 페이지 데이터 목록")
+    List<T> content,
+
+    @Schema(description = "페이지 크기", example = "10")
+    int size,
+
+    @Schema(description = "다음 페이지 조회용 커서 (마지막 페이지면 null)", example = "MTA", nullable = true)
+    String nextCursor,
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    boolean hasNext,
+
+    @Schema(description = "전체 항목 수 (includeTotal=true일 때만 포함)", example = "25", nullable = true)
+    Long totalElements
+) {}
@@ -0,0 +1,38 @@
+package com.heuron.patient_service.dto;
+
+import com.heuron.patient_service.entity.ImageUploadSession;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "이미지 분할 업로드 세션 상태")
+public record ImageUploadSessionDto(
+    @Schema(description = "업로드 세션 ID", example = "3f2b8c1e-6a4d-4f7e-9b1a-2c5d8e7f0a13")
+    String uploadId,
+
+    @Schema(description = "환자 ID", example = "1")
+    Long patientId,
+
+    @Schema(description = "전체 파일 크기 (bytes)", example = "52428800")
+    long fileSize,
+
+    @Schema(description = "저장된 바이트 수 (다음 청크의 offset)", example = "8388608")
+    long offset,
+
+    @Schema(description = "청크 업로드 URL", example = "/api/patients/1/image/uploads/3f2b8c1e-6a4d-4f7e-9b1a-2c5d8e7f0a13")
+    String uploadUrl,
+
+    @Schema(description = "만료 일시 (이후 세션과 임시 파일 삭제)", example = "2024-01-02T10:00:00")
+    LocalDateTime expiresAt
+) {
+    public static ImageUploadSessionDto from(ImageUploadSession session, long offset) {
+        return new ImageUploadSessionDto(
+            session.getId(),
+            session.getPatientId(),
+            session.getFileSize(),
+            offset,
+            "/api/patients/" + session.getPatientId() + "/image/uploads/" + session.getId(),
+            session.getExpiresAt()
+        );
+    }
+}
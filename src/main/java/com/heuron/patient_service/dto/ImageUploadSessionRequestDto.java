@@ -0,0 +1,18 @@
+package com.heuron.patient_service.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+@Schema(description = "이미지 분할 업로드 세션 생성 요청")
+public record ImageUploadSessionRequestDto(
+    @Schema(description = "원본 파일명 (확장자 확인용)", example = "chest-xray.png", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotBlank(message = "파일명은 필수입니다")
+    String fileName,
+
+    @Schema(description = "전체 파일 크기 (bytes)", example = "52428800", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotNull(message = "파일 크기는 필수입니다")
+    @Positive(message = "파일 크기는 0보다 커야 합니다")
+    Long fileSize
+) {}
@@ -0,0 +1,26 @@
+package com.heuron.patient_service.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "일괄 등록 항목별 결과")
+public record PatientBatchItemResultDto(
+    @Schema(description = "요청 배열 내 위치 (0부터 시작)", example = "0")
+    int index,
+
+    @Schema(description = "등록 성공 여부", example = "true")
+    boolean success,
+
+    @Schema(description = "생성된 환자 ID (실패 시 null)", example = "1", nullable = true)
+    Long patientId,
+
+    @Schema(description = "실패 사유 (성공 시 null)", example = "age: 나이는 150 이하여야 합니다", nullable = true)
+    String error
+) {
+    public static PatientBatchItemResultDto success(int index, Long patientId) {
+        return new PatientBatchItemResultDto(index, true, patientId, null);
+    }
+
+    public static PatientBatchItemResultDto failure(int index, String error) {
+        return new PatientBatchItemResultDto(index, false, null, error);
+    }
+}
@@ -0,0 +1,20 @@
+package com.heuron.patient_service.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "환자 일괄 등록 응답")
+public record PatientBatchResponseDto(
+    @Schema(description = "요청 항목 수", example = "3")
+    int total,
+
+    @Schema(description = "등록 성공 수", example = "2")
+    int succeeded,
+
+    @Schema(description = "등록 실패 수", example = "1")
+    int failed,
+
+    @Schema(description = "항목별 결과 (요청 순서)")
+    List<PatientBatchItemResultDto> results
+) {}
@@ -0,0 +1,59 @@
+package com.heuron.patient_service.dto;
+
+import com.heuron.patient_service.entity.ImportStatus;
+import com.heuron.patient_service.entity.PatientImportJob;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "환자 CSV 가져오기 작업 상태")
+public record PatientImportJobDto(
+    @Schema(description = "작업 ID", example = "1")
+    Long jobId,
+
+    @Schema(description = "상태", example = "RUNNING")
+    ImportStatus status,
+
+    @Schema(description = "진행률 (0-100, 처리한 바이트 기준)", example = "42")
+    int progressPercent,
+
+    @Schema(description = "처리한 데이터 행 수 (헤더 제외)", example = "2100000")
+    long processedRows,
+
+    @Schema(description = "저장된 행 수", example = "2099870")
+    long importedRows,
+
+    @Schema(description = "오류 행 수 (오류 리포트 참고)", example = "130")
+    long failedRows,
+
+    @Schema(description = "오류 리포트 URL", example = "/api/patients/import/1/errors")
+    String errorReportUrl,
+
+    @Schema(description = "실패 사유", nullable = true)
+    String message,
+
+    @Schema(description = "생성 일시", example = "2024-01-01T10:00:00")
+    LocalDateTime createdAt,
+
+    @Schema(description = "최근 갱신 일시", example = "2024-01-01T10:03:00")
+    LocalDateTime updatedAt,
+
+    @Schema(description = "종료 일시", example = "2024-01-01T10:05:00", nullable = true)
+    LocalDateTime finishedAt
+) {
+    public static PatientImportJobDto from(PatientImportJob job) {
+        return new PatientImportJobDto(
+            job.getId(),
+            job.getStatus(),
+            job.getProgressPercent(),
+            job.getProcessedRows(),
+            job.getImportedRows(),
+            job.getFailedRows(),
+            "/api/patients/import/" + job.getId() + "/errors",
+            job.getMessage(),
+            job.getCreatedAt(),
+            job.getUpdatedAt(),
+            job.getFinishedAt()
+        );
+    }
+}
@@ -1,5 +1,6 @@
 package com.heuron.patient_service.dto;
 
+import com.heuron.patient_service.cache.CachedPatient;
 import com.heuron.patient_service.entity.Gender;
 import com.heuron.patient_service.entity.Patient;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -32,6 +33,20 @@ public record PatientResponseDto(
     @Schema(description = "수정 일시", example = "2024-01-01T10:00:00")
     LocalDateTime updatedAt
 ) {
+    /**
+     * 목록 조회 프로젝션용 (JPQL/Criteria 생성자 표현식)
+     * 엔티티 없이 필요한 컬럼만 읽고 이미지 여부로 URL을 채움
+     */
+    public PatientResponseDto(Long patientId, String name, Integer age, Gender gender, Boolean hasDisease,
+                              Boolean hasImage, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(patientId, name, age, gender, hasDisease,
+            Boolean.TRUE.equals(hasImage) ? imageUrl(patientId) : null, createdAt, updatedAt);
+    }
+
+    public static String imageUrl(Long patientId) {
+        return "/api/patients/" + patientId + "/image";
+    }
+
     public static PatientResponseDto from(Patient patient, String imageUrl) {
         return new PatientResponseDto(
             patient.getPatientId(),
@@ -44,4 +59,17 @@ public record PatientResponseDto(
             patient.getUpdatedAt()
         );
     }
+
+    public static PatientResponseDto from(CachedPatient patient, String imageUrl) {
+        return new PatientResponseDto(
+            patient.patientId(),
+            patient.name(),
+            patient.age(),
+            patient.gender(),
+            patient.hasDisease(),
+            imageUrl,
+            patient.createdAt(),
+            patient.updatedAt()
+        );
+    }
 }
\ No newline at end of file
@@ -0,0 +1,25 @@
+package com.heuron.patient_service.dto;
+
+import com.heuron.patient_service.entity.Gender;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "환자 검색 조건 (null인 조건은 적용하지 않음)")
+public record PatientSearchCondition(
+    @Schema(description = "이름 접두어", example = "김", nullable = true)
+    String namePrefix,
+
+    @Schema(description = "최소 나이 (포함)", example = "30", nullable = true)
+    Integer minAge,
+
+    @Schema(description = "최대 나이 (포함)", example = "59", nullable = true)
+    Integer maxAge,
+
+    @Schema(description = "성별", example = "M", allowableValues = {"M", "F"}, nullable = true)
+    Gender gender,
+
+    @Schema(description = "질병 여부", example = "true", nullable = true)
+    Boolean hasDisease,
+
+    @Schema(description = "이미지 업로드 여부", example = "true", nullable = true)
+    Boolean imageUploaded
+) {}
@@ -0,0 +1,27 @@
+package com.heuron.patient_service.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Schema(description = "환자 통계")
+public record PatientStatsDto(
+    @Schema(description = "전체 환자 수", example = "1250")
+    long total,
+
+    @Schema(description = "성별 환자 수", example = "{\"M\": 640, \"F\": 610}")
+    Map<String, Long> byGender,
+
+    @Schema(description = "나이대별 환자 수 (10세 단위, 90세 이상은 90+)", example = "{\"0-9\": 30, \"10-19\": 85, \"90+\": 12}")
+    Map<String, Long> byAgeGroup,
+
+    @Schema(description = "질병 여부별 환자 수", example = "{\"true\": 400, \"false\": 850}")
+    Map<String, Long> byDisease,
+
+    @Schema(description = "이미지 업로드 여부별 환자 수", example = "{\"true\": 900, \"false\": 350}")
+    Map<String, Long> byImage,
+
+    @Schema(description = "마지막 DB 재계산 시각 (시작 직후 초기화 전이면 null)", nullable = true)
+    LocalDateTime reconciledAt
+) {}
@@ -0,0 +1,66 @@
+package com.heuron.patient_service.entity;
+
+import com.heuron.patient_service.event.FileCleanupEvent.CleanupType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 파일 정리 작업 (outbox)
+ * 환자/이미지 변경과 같은 트랜잭션에서 기록되어, 프로세스가 중단되어도 정리 작업이 유실되지 않음
+ */
+@Entity
+@Table(name = "file_cleanup_outbox")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class FileCleanupTask {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "file_name", nullable = false, length = 255)
+    private String fileName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "cleanup_type", nullable = false, length = 30)
+    private CleanupType cleanupType;
+
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public static FileCleanupTask of(String fileName, CleanupType cleanupType) {
+        FileCleanupTask task = new FileCleanupTask();
+        task.fileName = fileName;
+        task.cleanupType = cleanupType;
+        task.attempts = 0;
+        task.createdAt = LocalDateTime.now();
+        task.nextAttemptAt = task.createdAt;
+        return task;
+    }
+
+    /**
+     * 실패 기록 후 지정한 대기 시간 뒤로 재시도 예약
+     */
+    public void recordFailure(String error, Duration backoff) {
+        this.attempts++;
+        this.lastError = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        this.nextAttemptAt = LocalDateTime.now().plus(backoff);
+    }
+}
@@ -0,0 +1,37 @@
+package com.heuron.patient_service.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내용 주소(SHA-256) 기반으로 저장된 이미지 파일의 참조 수
+ * 참조 수가 0이 될 때만 실제 파일을 삭제
+ */
+@Entity
+@Table(name = "image_content")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ImageContent {
+
+    @Id
+    @Column(name = "file_name", length = 255)
+    private String fileName;
+
+    @Column(name = "ref_count", nullable = false)
+    private Integer refCount;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * 참조 해제 후 남은 참조 수 반환
+     */
+    public int release() {
+        this.refCount = Math.max(0, this.refCount - 1);
+        return this.refCount;
+    }
+}
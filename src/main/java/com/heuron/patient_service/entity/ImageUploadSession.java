@@ -0,0 +1,57 @@
+package com.heuron.patient_service.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 이미지 분할 업로드 세션
+ * 전송된 바이트는 업로드 디렉토리의 임시 파일에 이어 붙이며, 커밋된 위치는 임시 파일 크기로 판단 (청크마다 DB 갱신 없음)
+ * ID는 추측할 수 없도록 UUID 사용 (청크 업로드 URL에 포함)
+ */
+@Entity
+@Table(name = "image_upload_session")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ImageUploadSession {
+
+    @Id
+    @Column(name = "id", length = 36)
+    private String id;
+
+    @Column(name = "patient_id", nullable = false)
+    private Long patientId;
+
+    // 검증된 확장자 (png, jpg)
+    @Column(name = "extension", nullable = false, length = 10)
+    private String extension;
+
+    @Column(name = "file_size", nullable = false)
+    private Long fileSize;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    public static ImageUploadSession create(Long patientId, String extension, long fileSize, Duration expireAfter) {
+        ImageUploadSession session = new ImageUploadSession();
+        session.id = UUID.randomUUID().toString();
+        session.patientId = patientId;
+        session.extension = extension;
+        session.fileSize = fileSize;
+        session.createdAt = LocalDateTime.now();
+        session.expiresAt = session.createdAt.plus(expireAfter);
+        return session;
+    }
+
+    public boolean isExpired() {
+        return expiresAt.isBefore(LocalDateTime.now());
+    }
+}
@@ -0,0 +1,18 @@
+package com.heuron.patient_service.entity;
+
+public enum ImportStatus {
+    PENDING("대기"),
+    RUNNING("진행 중"),
+    COMPLETED("완료"),
+    FAILED("실패");
+
+    private final String description;
+
+    ImportStatus(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
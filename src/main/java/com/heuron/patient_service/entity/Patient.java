@@ -36,6 +36,11 @@ public class Patient {
     @Column(name = "image_file_name", length = 255)
     private String imageFileName;
 
+    // 이미지 존재 여부 (인덱스 필터링용, uploadImage에서 함께 갱신)
+    @Builder.Default
+    @Column(name = "has_image", nullable = false)
+    private Boolean hasImage = false;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -55,9 +60,10 @@ public class Patient {
 
     public void uploadImage(String imageFileName) {
         this.imageFileName = imageFileName;
+        this.hasImage = imageFileName != null && !imageFileName.isEmpty();
     }
 
     public boolean hasImage() {
-        return this.imageFileName != null && !this.imageFileName.isEmpty();
+        return Boolean.TRUE.equals(this.hasImage);
     }
 }
\ No newline at end of file
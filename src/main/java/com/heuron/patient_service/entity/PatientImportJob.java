@@ -0,0 +1,135 @@
+package com.heuron.patient_service.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 환자 CSV 일괄 가져오기 작업
+ * 청크 INSERT와 같은 트랜잭션에서 진행 상황을 갱신하므로, 중단 후 재개 시 processedRows 다음 행부터 이어서 처리
+ * 실행 인스턴스(owner)는 작업을 원자적으로 점유한 뒤 청크 커밋마다 heartbeatAt을 갱신 (임대 만료 시 다른 인스턴스가 재개)
+ */
+@Entity
+@Table(name = "patient_import_job")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PatientImportJob {
+
+    private static final int MAX_MESSAGE_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private ImportStatus status;
+
+    @Column(name = "file_size", nullable = false)
+    private Long fileSize;
+
+    // 처리한 데이터 행 수 (헤더 제외, 성공 + 실패)
+    @Column(name = "processed_rows", nullable = false)
+    private Long processedRows;
+
+    @Column(name = "imported_rows", nullable = false)
+    private Long importedRows;
+
+    @Column(name = "failed_rows", nullable = false)
+    private Long failedRows;
+
+    // 진행률 계산용 (처리한 바이트 수, 근사값)
+    @Column(name = "bytes_read", nullable = false)
+    private Long bytesRead;
+
+    // 커밋된 시점의 오류 리포트 크기 (재개 시 이후 기록분은 잘라냄)
+    @Column(name = "error_report_size", nullable = false)
+    private Long errorReportSize;
+
+    // 실행 중인 인스턴스 ID
+    @Column(name = "owner", length = 64)
+    private String owner;
+
+    // 점유 갱신 시각 (임대 기간 동안 갱신되지 않으면 다른 인스턴스가 점유 가능)
+    @Column(name = "heartbeat_at")
+    private LocalDateTime heartbeatAt;
+
+    @Column(name = "message", length = MAX_MESSAGE_LENGTH)
+    private String message;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    public static PatientImportJob create(long fileSize) {
+        PatientImportJob job = new PatientImportJob();
+        job.status = ImportStatus.PENDING;
+        job.fileSize = fileSize;
+        job.processedRows = 0L;
+        job.importedRows = 0L;
+        job.failedRows = 0L;
+        job.bytesRead = 0L;
+        job.errorReportSize = 0L;
+        job.createdAt = LocalDateTime.now();
+        job.updatedAt = job.createdAt;
+        job.heartbeatAt = job.createdAt;
+        return job;
+    }
+
+    public boolean isResumable() {
+        return status != ImportStatus.COMPLETED;
+    }
+
+    /**
+     * 지정한 인스턴스가 실행 중인 작업인지 (점유를 잃었으면 진행 상황을 기록하지 않음)
+     */
+    public boolean isRunBy(String owner) {
+        return status == ImportStatus.RUNNING && owner.equals(this.owner);
+    }
+
+    /**
+     * 청크 커밋 시 진행 상황 반영
+     */
+    public void recordProgress(long processed, long imported, long failed, long bytesRead, long errorReportSize) {
+        this.processedRows += processed;
+        this.importedRows += imported;
+        this.failedRows += failed;
+        this.bytesRead = Math.max(this.bytesRead, bytesRead);
+        this.errorReportSize = errorReportSize;
+        this.updatedAt = LocalDateTime.now();
+        this.heartbeatAt = this.updatedAt;
+    }
+
+    public void complete() {
+        this.status = ImportStatus.COMPLETED;
+        this.bytesRead = this.fileSize;
+        this.updatedAt = LocalDateTime.now();
+        this.finishedAt = this.updatedAt;
+    }
+
+    public void fail(String message) {
+        this.status = ImportStatus.FAILED;
+        this.message = message != null && message.length() > MAX_MESSAGE_LENGTH ? message.substring(0, MAX_MESSAGE_LENGTH) : message;
+        this.updatedAt = LocalDateTime.now();
+        this.finishedAt = this.updatedAt;
+    }
+
+    /**
+     * 진행률 (0-100, 처리한 바이트 기준 근사값)
+     */
+    public int getProgressPercent() {
+        if (status == ImportStatus.COMPLETED || fileSize == 0) {
+            return status == ImportStatus.COMPLETED ? 100 : 0;
+        }
+        return (int) Math.min(99, bytesRead * 100 / fileSize);
+    }
+}
@@ -1,41 +1,45 @@
 package com.heuron.patient_service.event;
 
-import com.heuron.patient_service.util.FileUploadUtil;
+import com.heuron.patient_service.cache.ImageByteCache;
+import com.heuron.patient_service.entity.FileCleanupTask;
+import com.heuron.patient_service.repository.FileCleanupTaskRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
 /**
  * 파일 정리 이벤트 리스너
- * 트랜잭션 커밋/롤백 시 파일 시스템 정리를 담당
+ * 정리할 파일을 outbox 테이블에 기록하고, 실제 삭제는 FileCleanupOutboxWorker가 비동기로 처리
+ * (요청 스레드에서 디스크 I/O를 하지 않으며, 프로세스가 중단되어도 작업이 유실되지 않음)
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class FileCleanupEventListener {
 
-    private final FileUploadUtil fileUploadUtil;
+    private final FileCleanupTaskRepository fileCleanupTaskRepository;
+    private final MeterRegistry meterRegistry;
+    private final ImageByteCache imageByteCache;
 
     /**
-     * 트랜잭션 커밋 후 파일 정리 처리
+     * 커밋 직전 같은 트랜잭션에서 정리 작업 기록 (변경과 작업 기록이 함께 커밋/롤백)
      */
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    public void handleFileCleanupAfterCommit(FileCleanupEvent event) {
-        log.debug("Transaction committed, processing file cleanup: {}", event);
-
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void handleFileCleanupBeforeCommit(FileCleanupEvent event) {
         switch (event.cleanupType()) {
             case DELETE_OLD_ON_COMMIT -> {
                 if (event.oldFileName() != null) {
-                    fileUploadUtil.deleteFile(event.oldFileName());
-                    log.info("Old file deleted after commit: {}", event.oldFileName());
+                    enqueue(event.oldFileName(), event.cleanupType());
                 }
             }
             case DELETE_ON_COMMIT -> {
                 if (event.newFileName() != null) {
-                    fileUploadUtil.deleteFile(event.newFileName());
-                    log.info("File deleted after commit: {}", event.newFileName());
+                    enqueue(event.newFileName(), event.cleanupType());
                 }
             }
             default -> log.debug("No file cleanup needed for commit phase");
@@ -43,17 +47,36 @@ public class FileCleanupEventListener {
     }
 
     /**
-     * 트랜잭션 롤백 후 파일 정리 처리
+     * 커밋 후 더 이상 참조하지 않는 파일을 이미지 캐시에서 제거
      */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleFileCleanupAfterCommit(FileCleanupEvent event) {
+        switch (event.cleanupType()) {
+            case DELETE_OLD_ON_COMMIT -> imageByteCache.invalidate(event.oldFileName());
+            case DELETE_ON_COMMIT -> imageByteCache.invalidate(event.newFileName());
+            default -> log.debug("No image cache invalidation needed for commit phase");
+        }
+    }
+
+    /**
+     * 트랜잭션 롤백 후 신규 파일 정리 작업을 별도 트랜잭션으로 기록
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
     @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
     public void handleFileCleanupAfterRollback(FileCleanupEvent event) {
-        log.warn("Transaction rolled back, cleaning up new file: {}", event.newFileName());
+        log.warn("Transaction rolled back, scheduling cleanup of new file: {}", event.newFileName());
 
         // 이미지 업데이트 실패 시 새로 저장한 파일 삭제
         if (event.newFileName() != null &&
             event.cleanupType() == FileCleanupEvent.CleanupType.DELETE_OLD_ON_COMMIT) {
-            fileUploadUtil.deleteFile(event.newFileName());
-            log.info("New file deleted after rollback: {}", event.newFileName());
+            enqueue(event.newFileName(), FileCleanupEvent.CleanupType.DELETE_NEW_ON_ROLLBACK);
+            imageByteCache.invalidate(event.newFileName());
         }
     }
-}
\ No newline at end of file
+
+    private void enqueue(String fileName, FileCleanupEvent.CleanupType cleanupType) {
+        fileCleanupTaskRepository.save(FileCleanupTask.of(fileName, cleanupType));
+        meterRegistry.counter("file.cleanup.events", "type", cleanupType.name()).increment();
+        log.debug("File cleanup scheduled: fileName={}, cleanupType={}", fileName, cleanupType);
+    }
+}
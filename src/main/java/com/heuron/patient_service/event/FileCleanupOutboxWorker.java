@@ -0,0 +1,118 @@
+package com.heuron.patient_service.event;
+
+import com.heuron.patient_service.entity.FileCleanupTask;
+import com.heuron.patient_service.repository.FileCleanupTaskRepository;
+import com.heuron.patient_service.service.ImageStorageService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 파일 정리 outbox 처리기
+ * 처리 시각이 된 작업을 배치로 가져와 작업마다 별도 트랜잭션에서 파일 정리 후 작업 삭제
+ * 실패한 작업은 지수 백오프로 재시도 (최대 대기 시간 제한)
+ */
+@Slf4j
+@Component
+public class FileCleanupOutboxWorker {
+
+    private final FileCleanupTaskRepository fileCleanupTaskRepository;
+    private final ImageStorageService imageStorageService;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+
+    private final AtomicLong queueDepth = new AtomicLong();
+    private final AtomicLong lagSeconds = new AtomicLong();
+    private final Counter processedCounter;
+    private final Counter failedCounter;
+
+    public FileCleanupOutboxWorker(
+            FileCleanupTaskRepository fileCleanupTaskRepository,
+            ImageStorageService imageStorageService,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${file.cleanup.batch-size:100}") int batchSize,
+            @Value("${file.cleanup.initial-backoff:5s}") Duration initialBackoff,
+            @Value("${file.cleanup.max-backoff:1h}") Duration maxBackoff) {
+        this.fileCleanupTaskRepository = fileCleanupTaskRepository;
+        this.imageStorageService = imageStorageService;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+
+        Gauge.builder("file.cleanup.outbox.depth", queueDepth, AtomicLong::get)
+            .description("Pending file cleanup tasks")
+            .register(meterRegistry);
+        Gauge.builder("file.cleanup.outbox.lag", lagSeconds, AtomicLong::get)
+            .description("Age of the oldest pending file cleanup task")
+            .baseUnit("seconds")
+            .register(meterRegistry);
+        this.processedCounter = meterRegistry.counter("file.cleanup.outbox.processed");
+        this.failedCounter = meterRegistry.counter("file.cleanup.outbox.failed");
+    }
+
+    @Scheduled(fixedDelayString = "${file.cleanup.poll-interval:1s}")
+    public void drain() {
+        List<Long> dueIds;
+        do {
+            dueIds = fileCleanupTaskRepository.findDueIds(LocalDateTime.now(), Limit.of(batchSize));
+            dueIds.forEach(this::process);
+        } while (dueIds.size() == batchSize);
+
+        updateMetrics();
+    }
+
+    private void process(Long taskId) {
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                fileCleanupTaskRepository.findByIdForUpdate(taskId).ifPresent(task -> {
+                    execute(task);
+                    fileCleanupTaskRepository.delete(task);
+                }));
+            processedCounter.increment();
+        } catch (RuntimeException e) {
+            failedCounter.increment();
+            transactionTemplate.executeWithoutResult(status ->
+                fileCleanupTaskRepository.findByIdForUpdate(taskId).ifPresent(task -> {
+                    task.recordFailure(e.getMessage(), backoff(task.getAttempts()));
+                    log.warn("File cleanup failed: fileName={}, attempts={}, nextAttemptAt={}, reason={}",
+                        task.getFileName(), task.getAttempts(), task.getNextAttemptAt(), e.getMessage());
+                }));
+        }
+    }
+
+    private void execute(FileCleanupTask task) {
+        switch (task.getCleanupType()) {
+            case DELETE_OLD_ON_COMMIT, DELETE_ON_COMMIT -> imageStorageService.delete(task.getFileName());
+            case DELETE_NEW_ON_ROLLBACK -> imageStorageService.discard(task.getFileName());
+        }
+        log.info("File cleanup completed: fileName={}, cleanupType={}", task.getFileName(), task.getCleanupType());
+    }
+
+    private Duration backoff(int attempts) {
+        long multiplier = 1L << Math.min(attempts, 20);
+        Duration delay = initialBackoff.multipliedBy(multiplier);
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private void updateMetrics() {
+        queueDepth.set(fileCleanupTaskRepository.count());
+        lagSeconds.set(fileCleanupTaskRepository.findOldestCreatedAt()
+            .map(oldest -> Math.max(0, Duration.between(oldest, LocalDateTime.now()).toSeconds()))
+            .orElse(0L));
+    }
+}
@@ -0,0 +1,28 @@
+package com.heuron.patient_service.event;
+
+import com.heuron.patient_service.service.ThumbnailService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 축소본 생성 이벤트 리스너
+ * 커밋된 업로드에 대해서만 별도 작업 스레드에서 축소본 생성 (요청 스레드를 막지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageDerivativeEventListener {
+
+    private final ThumbnailService thumbnailService;
+
+    @Async("thumbnailExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleImageUploadedAfterCommit(ImageUploadedEvent event) {
+        log.debug("Generating derivatives: patientId={}, fileName={}", event.patientId(), event.fileName());
+        thumbnailService.generateDerivatives(event.fileName());
+    }
+}
@@ -0,0 +1,10 @@
+package com.heuron.patient_service.event;
+
+/**
+ * 이미지 업로드 이벤트
+ * 트랜잭션 커밋 후 축소본(썸네일) 생성을 위한 이벤트
+ */
+public record ImageUploadedEvent(
+    Long patientId,
+    String fileName
+) {}
@@ -0,0 +1,25 @@
+package com.heuron.patient_service.event;
+
+import com.heuron.patient_service.cache.PatientCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 환자 캐시 무효화 리스너
+ * 커밋 이후에만 무효화하여 커밋 전 데이터가 다시 캐시되지 않도록 함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PatientCacheEventListener {
+
+    private final PatientCache patientCache;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handlePatientChangedAfterCommit(PatientChangedEvent event) {
+        patientCache.invalidate(event.patientId());
+    }
+}
@@ -0,0 +1,9 @@
+package com.heuron.patient_service.event;
+
+/**
+ * 환자 정보 변경 이벤트
+ * 트랜잭션 커밋 후 환자 조회 캐시 무효화를 위한 이벤트
+ */
+public record PatientChangedEvent(
+    Long patientId
+) {}
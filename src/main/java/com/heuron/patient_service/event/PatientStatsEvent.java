@@ -0,0 +1,52 @@
+package com.heuron.patient_service.event;
+
+import com.heuron.patient_service.dto.PatientRequestDto;
+import com.heuron.patient_service.entity.Gender;
+import com.heuron.patient_service.entity.Patient;
+
+import java.util.List;
+
+/**
+ * 환자 통계 변경 이벤트
+ * 트랜잭션 커밋 후 통계 카운터에서 removed 항목을 빼고 added 항목을 더함
+ */
+public record PatientStatsEvent(
+    List<Entry> removed,
+    List<Entry> added
+) {
+
+    public static PatientStatsEvent created(Patient patient) {
+        return new PatientStatsEvent(List.of(), List.of(Entry.of(patient)));
+    }
+
+    // 일괄 등록/가져오기 - 신규 환자는 이미지 없음
+    public static PatientStatsEvent createdAll(List<PatientRequestDto> requests) {
+        List<Entry> added = requests.stream()
+            .map(request -> new Entry(request.gender(), request.age(), request.hasDisease(), false))
+            .toList();
+        return new PatientStatsEvent(List.of(), added);
+    }
+
+    public static PatientStatsEvent updated(Entry before, Patient after) {
+        return new PatientStatsEvent(List.of(before), List.of(Entry.of(after)));
+    }
+
+    public static PatientStatsEvent deleted(Patient patient) {
+        return new PatientStatsEvent(List.of(Entry.of(patient)), List.of());
+    }
+
+    /**
+     * 통계 분류 기준이 되는 환자 속성
+     */
+    public record Entry(
+        Gender gender,
+        int age,
+        boolean hasDisease,
+        boolean hasImage
+    ) {
+        public static Entry of(Patient patient) {
+            return new Entry(patient.getGender(), patient.getAge(),
+                Boolean.TRUE.equals(patient.getHasDisease()), patient.hasImage());
+        }
+    }
+}
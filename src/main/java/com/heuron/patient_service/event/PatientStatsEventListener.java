@@ -0,0 +1,23 @@
+package com.heuron.patient_service.event;
+
+import com.heuron.patient_service.service.PatientStatsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 환자 통계 카운터 갱신 리스너
+ * 커밋된 변경만 반영 (롤백된 트랜잭션의 이벤트는 버려짐)
+ */
+@Component
+@RequiredArgsConstructor
+public class PatientStatsEventListener {
+
+    private final PatientStatsService patientStatsService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handlePatientStatsAfterCommit(PatientStatsEvent event) {
+        patientStatsService.apply(event);
+    }
+}
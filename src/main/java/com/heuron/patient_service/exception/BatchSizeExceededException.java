@@ -0,0 +1,13 @@
+package com.heuron.patient_service.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import static com.heuron.patient_service.exception.ErrorMessage.BATCH_SIZE_EXCEEDED;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class BatchSizeExceededException extends RuntimeException {
+    public BatchSizeExceededException(int maxSize) {
+        super(BATCH_SIZE_EXCEEDED + maxSize);
+    }
+}
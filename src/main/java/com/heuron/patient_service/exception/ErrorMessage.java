@@ -8,10 +8,26 @@ public final class ErrorMessage {
 
     // Patient-related errors
     public static final String PATIENT_NOT_FOUND = "환자를 찾을 수 없습니다. ID: ";
+    public static final String INVALID_CURSOR = "유효하지 않은 커서입니다: ";
+    public static final String INVALID_AGE_RANGE = "최소 나이는 최대 나이보다 클 수 없습니다.";
+    public static final String BATCH_SIZE_EXCEEDED = "일괄 등록 가능한 최대 항목 수를 초과했습니다. 최대: ";
+    public static final String IMPORT_JOB_NOT_FOUND = "가져오기 작업을 찾을 수 없습니다. ID: ";
+    public static final String IMPORT_JOB_NOT_RESUMABLE = "재개할 수 없는 가져오기 작업입니다. (완료되었거나 진행 중) ID: ";
+    public static final String IMPORT_FILE_EMPTY = "가져올 CSV 내용이 비어 있습니다.";
+    public static final String IMPORT_FILE_TOO_LARGE = "가져오기 파일 크기 제한을 초과했습니다. 최대: ";
+    public static final String INVALID_EXPORT_FORMAT = "지원하지 않는 내보내기 형식입니다. (ndjson, csv만 가능): ";
 
     // Image-related errors
     public static final String IMAGE_NOT_FOUND = "이미지를 찾을 수 없습니다. 환자 ID: ";
     public static final String IMAGE_UPLOAD_ERROR = "이미지 업로드 중 오류가 발생했습니다: ";
+    public static final String ARCHIVE_SIZE_EXCEEDED = "압축 다운로드 가능한 최대 환자 수를 초과했습니다. 최대: ";
+    public static final String UPLOAD_SESSION_NOT_FOUND = "업로드 세션을 찾을 수 없습니다. (만료되었거나 완료됨) ID: ";
+    public static final String UPLOAD_SIZE_EXCEEDED = "업로드 파일 크기 제한을 초과했습니다. 최대: ";
+    public static final String UPLOAD_CHUNK_EXCEEDS_SIZE = "전송한 데이터가 세션의 파일 크기를 초과했습니다.";
+    public static final String UPLOAD_OFFSET_MISMATCH = "청크 offset이 저장된 위치와 다릅니다. 현재 offset: ";
+    public static final String UPLOAD_IN_PROGRESS = "같은 업로드 세션에 처리 중인 요청이 있습니다. ID: ";
+    public static final String UPLOAD_INCOMPLETE = "업로드가 완료되지 않았습니다. 현재 offset: ";
+    public static final String INVALID_IMAGE_SIZE = "지원하지 않는 이미지 크기입니다. (thumb, medium, original만 가능): ";
 
     // File validation errors
     public static final String FILE_NOT_SELECTED = "파일을 선택해주세요.";
@@ -21,4 +37,5 @@ public final class ErrorMessage {
     // File operation errors
     public static final String FILE_READ_ERROR = "파일을 읽을 수 없습니다: ";
     public static final String FILE_DELETE_ERROR = "파일 삭제에 실패했습니다: ";
+    public static final String FILE_QUARANTINE_ERROR = "파일 격리에 실패했습니다: ";
 }
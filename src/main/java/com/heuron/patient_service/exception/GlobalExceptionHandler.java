@@ -9,6 +9,7 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import java.io.IOException;
 import java.time.LocalDateTime;
@@ -29,6 +30,42 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
     }
 
+    @ExceptionHandler(ImportJobNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleImportJobNotFound(
+            ImportJobNotFoundException e,
+            HttpServletRequest request) {
+        log.warn("Import job not found: {}", e.getMessage());
+        ErrorResponse errorResponse = buildErrorResponse(HttpStatus.NOT_FOUND, e.getMessage(), request);
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+    }
+
+    @ExceptionHandler(ImportJobNotResumableException.class)
+    public ResponseEntity<ErrorResponse> handleImportJobNotResumable(
+            ImportJobNotResumableException e,
+            HttpServletRequest request) {
+        log.warn("Import job not resumable: {}", e.getMessage());
+        ErrorResponse errorResponse = buildErrorResponse(HttpStatus.CONFLICT, e.getMessage(), request);
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
+    @ExceptionHandler(UploadSessionNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleUploadSessionNotFound(
+            UploadSessionNotFoundException e,
+            HttpServletRequest request) {
+        log.warn("Upload session not found: {}", e.getMessage());
+        ErrorResponse errorResponse = buildErrorResponse(HttpStatus.NOT_FOUND, e.getMessage(), request);
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+    }
+
+    @ExceptionHandler(UploadSessionConflictException.class)
+    public ResponseEntity<ErrorResponse> handleUploadSessionConflict(
+            UploadSessionConflictException e,
+            HttpServletRequest request) {
+        log.warn("Upload session conflict: {}", e.getMessage());
+        ErrorResponse errorResponse = buildErrorResponse(HttpStatus.CONFLICT, e.getMessage(), request);
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
     @ExceptionHandler({ImageNotFoundException.class, FileReadException.class})
     public ResponseEntity<ErrorResponse> handleImageNotFound(
             RuntimeException e,
@@ -47,6 +84,17 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
     }
 
+    @ExceptionHandler({InvalidCursorException.class, BatchSizeExceededException.class, InvalidExportFormatException.class,
+                       InvalidImportFileException.class, ArchiveSizeExceededException.class,
+                       InvalidSearchConditionException.class})
+    public ResponseEntity<ErrorResponse> handleBadRequest(
+            RuntimeException e,
+            HttpServletRequest request) {
+        log.warn("Bad request: {}", e.getMessage());
+        ErrorResponse errorResponse = buildErrorResponse(HttpStatus.BAD_REQUEST, e.getMessage(), request);
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<ErrorResponse> handleUnexpectedRuntimeException(
             RuntimeException e,
@@ -90,6 +138,23 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
     }
 
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ErrorResponse> handleTypeMismatch(
+            MethodArgumentTypeMismatchException e,
+            HttpServletRequest request) {
+        String errorMessage = e.getName() + ": 유효하지 않은 값입니다 (" + e.getValue() + ")";
+        log.warn("Validation error: {}", errorMessage);
+
+        ErrorResponse errorResponse = new ErrorResponse(
+            LocalDateTime.now(),
+            HttpStatus.BAD_REQUEST.value(),
+            "VALIDATION_ERROR",
+            errorMessage,
+            request.getRequestURI()
+        );
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
     @ExceptionHandler(IOException.class)
     public ResponseEntity<ErrorResponse> handleIOException(
             IOException e,
@@ -0,0 +1,13 @@
+package com.heuron.patient_service.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import static com.heuron.patient_service.exception.ErrorMessage.IMPORT_JOB_NOT_RESUMABLE;
+
+@ResponseStatus(HttpStatus.CONFLICT)
+public class ImportJobNotResumableException extends RuntimeException {
+    public ImportJobNotResumableException(Long jobId) {
+        super(IMPORT_JOB_NOT_RESUMABLE + jobId);
+    }
+}
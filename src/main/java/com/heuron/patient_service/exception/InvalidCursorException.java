@@ -0,0 +1,13 @@
+package com.heuron.patient_service.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import static com.heuron.patient_service.exception.ErrorMessage.INVALID_CURSOR;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String cursor) {
+        super(INVALID_CURSOR + cursor);
+    }
+}
@@ -0,0 +1,13 @@
+package com.heuron.patient_service.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import static com.heuron.patient_service.exception.ErrorMessage.INVALID_EXPORT_FORMAT;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidExportFormatException extends RuntimeException {
+    public InvalidExportFormatException(String format) {
+        super(INVALID_EXPORT_FORMAT + format);
+    }
+}
@@ -0,0 +1,11 @@
+package com.heuron.patient_service.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidSearchConditionException extends RuntimeException {
+    public InvalidSearchConditionException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,14 @@
+package com.heuron.patient_service.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 업로드 세션의 현재 상태와 맞지 않는 요청 (offset 불일치, 동시 전송, 미완료 상태에서 완료 요청)
+ */
+@ResponseStatus(HttpStatus.CONFLICT)
+public class UploadSessionConflictException extends RuntimeException {
+    public UploadSessionConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,13 @@
+package com.heuron.patient_service.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import static com.heuron.patient_service.exception.ErrorMessage.UPLOAD_SESSION_NOT_FOUND;
+
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class UploadSessionNotFoundException extends RuntimeException {
+    public UploadSessionNotFoundException(String uploadId) {
+        super(UPLOAD_SESSION_NOT_FOUND + uploadId);
+    }
+}
@@ -0,0 +1,56 @@
+package com.heuron.patient_service.migration;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 업로드 디렉토리 레이아웃 마이그레이션 명령
+ * 서비스를 중지한 상태에서 아래와 같이 실행하며, 완료되면 프로세스를 종료
+ *   java -jar app.jar --spring.main.web-application-type=none --migrate-image-layout [--migrate-batch-size=500]
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageLayoutMigrationRunner implements ApplicationRunner {
+
+    private static final String OPTION_MIGRATE = "migrate-image-layout";
+    private static final String OPTION_BATCH_SIZE = "migrate-batch-size";
+    private static final int DEFAULT_BATCH_SIZE = 500;
+
+    private final ImageLayoutMigrationService migrationService;
+    private final ConfigurableApplicationContext applicationContext;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!args.containsOption(OPTION_MIGRATE)) {
+            return;
+        }
+
+        int batchSize = DEFAULT_BATCH_SIZE;
+        List<String> batchSizeValues = args.getOptionValues(OPTION_BATCH_SIZE);
+        if (batchSizeValues != null && !batchSizeValues.isEmpty()) {
+            batchSize = Integer.parseInt(batchSizeValues.get(0));
+        }
+
+        log.info("Starting image layout migration: batchSize={}", batchSize);
+        int exitCode = 0;
+        try {
+            ImageLayoutMigrationService.MigrationResult result = migrationService.migrate(batchSize);
+            log.info("Image layout migration finished: migrated={}, missingFiles={}",
+                result.migrated(), result.missingFiles());
+        } catch (RuntimeException e) {
+            log.error("Image layout migration stopped, rerun to resume: {}", e.getMessage(), e);
+            exitCode = 1;
+        }
+
+        int finalExitCode = exitCode;
+        System.exit(SpringApplication.exit(applicationContext, () -> finalExitCode));
+    }
+}
@@ -0,0 +1,109 @@
+package com.heuron.patient_service.migration;
+
+import com.heuron.patient_service.entity.Patient;
+import com.heuron.patient_service.repository.FileCleanupTaskRepository;
+import com.heuron.patient_service.repository.ImageContentRepository;
+import com.heuron.patient_service.repository.PatientRepository;
+import com.heuron.patient_service.util.FileUploadUtil;
+import com.heuron.patient_service.util.ImageSize;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+
+/**
+ * 평면(flat) 업로드 디렉토리를 분산(sharded) 레이아웃으로 옮기는 오프라인 마이그레이션
+ * 파일을 먼저 이동한 뒤 배치 단위로 image_file_name을 갱신하므로 중단 후 재실행하면 이어서 진행
+ * (파일만 이동되고 DB가 갱신되지 않은 행은 재실행 시 이동된 파일을 확인하고 DB만 갱신)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImageLayoutMigrationService {
+
+    private final PatientRepository patientRepository;
+    private final ImageContentRepository imageContentRepository;
+    private final FileCleanupTaskRepository fileCleanupTaskRepository;
+    private final FileUploadUtil fileUploadUtil;
+    private final TransactionTemplate transactionTemplate;
+
+    public MigrationResult migrate(int batchSize) {
+        long lastPatientId = 0L;
+        long migrated = 0;
+        long missing = 0;
+
+        while (true) {
+            List<Patient> batch = patientRepository.findFlatImagesAfter(lastPatientId, Limit.of(batchSize));
+            if (batch.isEmpty()) {
+                break;
+            }
+
+            for (Patient patient : batch) {
+                if (!moveWithDerivatives(patient.getImageFileName())) {
+                    missing++;
+                }
+            }
+
+            // 배치 단위로 DB 갱신 (동일 내용을 공유하는 image_content 행과 대기 중인 파일 정리 작업도 함께 변경)
+            transactionTemplate.executeWithoutResult(status -> batch.forEach(patient -> {
+                String oldFileName = patient.getImageFileName();
+                String newFileName = fileUploadUtil.toShardedFileName(oldFileName);
+                patientRepository.updateImageFileName(patient.getPatientId(), oldFileName, newFileName);
+                imageContentRepository.renameFileName(oldFileName, newFileName);
+                fileCleanupTaskRepository.renameFileName(oldFileName, newFileName);
+            }));
+
+            migrated += batch.size();
+            lastPatientId = batch.get(batch.size() - 1).getPatientId();
+            log.info("Image layout migration progress: migrated={}, missingFiles={}, lastPatientId={}",
+                migrated, missing, lastPatientId);
+        }
+
+        return new MigrationResult(migrated, missing);
+    }
+
+    /**
+     * 원본과 축소본 이동, 원본 파일이 어디에도 없으면 false
+     */
+    private boolean moveWithDerivatives(String fileName) {
+        boolean found = move(fileName);
+        for (ImageSize size : ImageSize.values()) {
+            if (size.isDerivative()) {
+                move(fileUploadUtil.getDerivativeFileName(fileName, size));
+            }
+        }
+        if (!found) {
+            log.warn("Image file missing during layout migration: {}", fileName);
+        }
+        return found;
+    }
+
+    private boolean move(String flatFileName) {
+        String baseFileName = flatFileName.substring(flatFileName.lastIndexOf('/') + 1);
+        String prefix = flatFileName.substring(0, flatFileName.length() - baseFileName.length());
+
+        Path source = fileUploadUtil.getFilePath(flatFileName);
+        Path target = fileUploadUtil.getFilePath(prefix + fileUploadUtil.toShardedFileName(baseFileName));
+        try {
+            if (Files.exists(source)) {
+                Files.createDirectories(target.getParent());
+                Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+                return true;
+            }
+            // 이전 실행에서 이미 이동된 파일 (또는 같은 내용을 공유하는 다른 환자가 먼저 이동)
+            return Files.exists(target);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to move image file: " + flatFileName, e);
+        }
+    }
+
+    public record MigrationResult(long migrated, long missingFiles) {}
+}
@@ -0,0 +1,39 @@
+package com.heuron.patient_service.repository;
+
+import com.heuron.patient_service.entity.FileCleanupTask;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface FileCleanupTaskRepository extends JpaRepository<FileCleanupTask, Long> {
+
+    // 처리 시각이 된 작업 ID (next_attempt_at 인덱스)
+    @Query("SELECT t.id FROM FileCleanupTask t WHERE t.nextAttemptAt <= :now ORDER BY t.nextAttemptAt ASC")
+    List<Long> findDueIds(@Param("now") LocalDateTime now, Limit limit);
+
+    // 다른 인스턴스가 처리 중인 작업은 건너뜀 (SKIP LOCKED)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT t FROM FileCleanupTask t WHERE t.id = :id")
+    Optional<FileCleanupTask> findByIdForUpdate(@Param("id") Long id);
+
+    // 디렉토리 레이아웃 마이그레이션: 대기 중인 정리 작업도 이동된 파일명을 가리키도록 변경
+    @Modifying
+    @Query(value = "UPDATE file_cleanup_outbox SET file_name = :newFileName WHERE file_name = :oldFileName", nativeQuery = true)
+    int renameFileName(@Param("oldFileName") String oldFileName, @Param("newFileName") String newFileName);
+
+    @Query("SELECT MIN(t.createdAt) FROM FileCleanupTask t")
+    Optional<LocalDateTime> findOldestCreatedAt();
+}
@@ -0,0 +1,35 @@
+package com.heuron.patient_service.repository;
+
+import com.heuron.patient_service.entity.ImageContent;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ImageContentRepository extends JpaRepository<ImageContent, String> {
+
+    // 참조 추가 (없으면 생성) - 행 잠금은 트랜잭션 종료까지 유지되어 동시 삭제와 직렬화됨
+    @Modifying
+    @Query(value = "INSERT INTO image_content (file_name, ref_count, created_at) VALUES (:fileName, 1, NOW()) " +
+                   "ON DUPLICATE KEY UPDATE ref_count = ref_count + 1", nativeQuery = true)
+    int acquire(@Param("fileName") String fileName);
+
+    @Modifying
+    @Query(value = "UPDATE image_content SET file_name = :newFileName WHERE file_name = :oldFileName", nativeQuery = true)
+    int renameFileName(@Param("oldFileName") String oldFileName, @Param("newFileName") String newFileName);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM ImageContent c WHERE c.fileName = :fileName")
+    Optional<ImageContent> findByIdForUpdate(@Param("fileName") String fileName);
+
+    @Query("SELECT c.fileName FROM ImageContent c WHERE c.fileName IN :fileNames")
+    List<String> findFileNamesIn(@Param("fileNames") Collection<String> fileNames);
+}
@@ -0,0 +1,29 @@
+package com.heuron.patient_service.repository;
+
+import com.heuron.patient_service.entity.ImageUploadSession;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ImageUploadSessionRepository extends JpaRepository<ImageUploadSession, String> {
+
+    // 만료된 세션 정리
+    List<ImageUploadSession> findByExpiresAtBefore(LocalDateTime now, Limit limit);
+
+    // 완료/취소/정리: 같은 세션을 처리 중인 요청이 있으면 (다른 인스턴스 포함) 기다리지 않고 실패 (NOWAIT)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "0"))
+    @Query("SELECT s FROM ImageUploadSession s WHERE s.id = :id")
+    Optional<ImageUploadSession> findByIdForUpdate(@Param("id") String id);
+}
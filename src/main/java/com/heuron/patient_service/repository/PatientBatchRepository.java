@@ -0,0 +1,59 @@
+package com.heuron.patient_service.repository;
+
+import com.heuron.patient_service.dto.PatientRequestDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 환자 일괄 등록 (JDBC 배치)
+ * IDENTITY 전략에서는 Hibernate가 INSERT를 배치로 묶지 못하므로 JDBC로 직접 실행
+ * MySQL은 rewriteBatchedStatements=true 설정 시 다중 행 INSERT로 변환되어 전송됨
+ */
+@Repository
+@RequiredArgsConstructor
+public class PatientBatchRepository {
+
+    private static final String INSERT_SQL =
+        "INSERT INTO patient (name, age, gender, has_disease, has_image, created_at, updated_at) " +
+        "VALUES (?, ?, ?, ?, FALSE, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 요청 순서대로 생성된 patient_id 목록 반환
+     */
+    public List<Long> insertAll(List<PatientRequestDto> requests) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        return jdbcTemplate.execute(connection -> connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+            (PreparedStatement ps) -> {
+                for (PatientRequestDto request : requests) {
+                    ps.setString(1, request.name());
+                    ps.setInt(2, request.age());
+                    ps.setString(3, request.gender().name());
+                    ps.setBoolean(4, request.hasDisease());
+                    ps.setTimestamp(5, now);
+                    ps.setTimestamp(6, now);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+
+                List<Long> ids = new ArrayList<>(requests.size());
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    while (keys.next()) {
+                        ids.add(keys.getLong(1));
+                    }
+                }
+                return ids;
+            });
+    }
+}
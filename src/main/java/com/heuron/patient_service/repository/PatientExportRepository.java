@@ -0,0 +1,102 @@
+package com.heuron.patient_service.repository;
+
+import com.heuron.patient_service.dto.PatientResponseDto;
+import com.heuron.patient_service.entity.Gender;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 환자 전체 내보내기 (JDBC 스트리밍)
+ * 단일 쿼리를 전진 전용 커서로 읽으며 일부 행만 메모리에 유지
+ * (MySQL은 이 쿼리에만 fetch size Integer.MIN_VALUE 를 지정해 행 단위로 스트리밍, 그 외 드라이버는 fetch-size 건씩)
+ */
+@Repository
+public class PatientExportRepository {
+
+    private static final String SELECT_SQL =
+        "SELECT patient_id, name, age, gender, has_disease, has_image, created_at, updated_at FROM patient";
+    private static final String SELECT_IMAGE_FILE_SQL =
+        "SELECT patient_id, image_file_name FROM patient WHERE has_image = TRUE AND image_file_name IS NOT NULL";
+
+    // MySQL Connector/J 스트리밍 결과 (전체 결과를 드라이버 메모리에 올리지 않음)
+    private static final int MYSQL_STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate streamingJdbcTemplate;
+
+    public PatientExportRepository(DataSource dataSource,
+                                   @Value("${spring.datasource.url:}") String datasourceUrl,
+                                   @Value("${patient.export.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(datasourceUrl.startsWith("jdbc:mysql:") ? MYSQL_STREAMING_FETCH_SIZE : fetchSize);
+    }
+
+    /**
+     * patient_id 순으로 한 건씩 전달 (imageUploaded가 null이면 전체)
+     */
+    public void streamAll(Boolean imageUploaded, Consumer<PatientResponseDto> consumer) {
+        if (imageUploaded == null) {
+            streamingJdbcTemplate.query(SELECT_SQL + " ORDER BY patient_id",
+                rs -> { consumer.accept(toDto(rs)); });
+        } else {
+            streamingJdbcTemplate.query(SELECT_SQL + " WHERE has_image = ? ORDER BY patient_id",
+                rs -> { consumer.accept(toDto(rs)); }, imageUploaded);
+        }
+    }
+
+    /**
+     * 이미지가 있는 환자를 afterPatientId 다음부터 limit 건 조회 (patient_id 순 keyset)
+     */
+    public List<PatientImageFile> findImageFiles(long afterPatientId, int limit) {
+        return jdbcTemplate.query(SELECT_IMAGE_FILE_SQL + " AND patient_id > ? ORDER BY patient_id LIMIT ?",
+            (rs, rowNum) -> toImageFile(rs), afterPatientId, limit);
+    }
+
+    /**
+     * 지정한 환자 중 이미지가 있는 환자 조회 (patient_id 순)
+     */
+    public List<PatientImageFile> findImageFilesIn(Collection<Long> patientIds) {
+        if (patientIds.isEmpty()) {
+            return List.of();
+        }
+        String placeholders = String.join(",", Collections.nCopies(patientIds.size(), "?"));
+        return jdbcTemplate.query(SELECT_IMAGE_FILE_SQL + " AND patient_id IN (" + placeholders + ") ORDER BY patient_id",
+            (rs, rowNum) -> toImageFile(rs), patientIds.toArray());
+    }
+
+    private PatientImageFile toImageFile(ResultSet rs) throws SQLException {
+        return new PatientImageFile(rs.getLong("patient_id"), rs.getString("image_file_name"));
+    }
+
+    private PatientResponseDto toDto(ResultSet rs) throws SQLException {
+        return new PatientResponseDto(
+            rs.getLong("patient_id"),
+            rs.getString("name"),
+            rs.getInt("age"),
+            Gender.valueOf(rs.getString("gender")),
+            rs.getBoolean("has_disease"),
+            rs.getBoolean("has_image"),
+            toLocalDateTime(rs.getTimestamp("created_at")),
+            toLocalDateTime(rs.getTimestamp("updated_at"))
+        );
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+
+    public record PatientImageFile(long patientId, String imageFileName) {
+    }
+}
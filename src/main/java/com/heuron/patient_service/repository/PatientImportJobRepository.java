@@ -0,0 +1,39 @@
+package com.heuron.patient_service.repository;
+
+import com.heuron.patient_service.entity.ImportStatus;
+import com.heuron.patient_service.entity.PatientImportJob;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface PatientImportJobRepository extends JpaRepository<PatientImportJob, Long> {
+
+    // 임대가 만료된 대기/진행 중 작업 (실행하던 인스턴스가 중단됨)
+    List<PatientImportJob> findByStatusInAndHeartbeatAtBefore(Collection<ImportStatus> statuses, LocalDateTime expiredBefore);
+
+    // 작업 점유: 대기/실패 상태이거나 임대가 만료된 진행 중 작업만 1건 갱신 (여러 인스턴스 중 하나만 성공)
+    @Modifying
+    @Query("UPDATE PatientImportJob j SET j.status = com.heuron.patient_service.entity.ImportStatus.RUNNING, " +
+           "j.owner = :owner, j.heartbeatAt = :now, j.updatedAt = :now, j.message = null, j.finishedAt = null " +
+           "WHERE j.id = :id AND (j.status IN (com.heuron.patient_service.entity.ImportStatus.PENDING, " +
+           "com.heuron.patient_service.entity.ImportStatus.FAILED) " +
+           "OR (j.status = com.heuron.patient_service.entity.ImportStatus.RUNNING " +
+           "AND (j.heartbeatAt IS NULL OR j.heartbeatAt < :expiredBefore)))")
+    int claim(@Param("id") Long id, @Param("owner") String owner,
+              @Param("now") LocalDateTime now, @Param("expiredBefore") LocalDateTime expiredBefore);
+
+    // 청크 커밋 시 점유 확인 (동시에 시작된 점유 갱신과 직렬화)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT j FROM PatientImportJob j WHERE j.id = :id")
+    Optional<PatientImportJob> findByIdForUpdate(@Param("id") Long id);
+}
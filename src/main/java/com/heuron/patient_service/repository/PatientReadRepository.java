@@ -0,0 +1,87 @@
+package com.heuron.patient_service.repository;
+
+import com.heuron.patient_service.dto.PatientResponseDto;
+import com.heuron.patient_service.entity.Patient;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 환자 목록/커서/검색 조회 (DTO 프로젝션)
+ * 관리 엔티티 대신 필요한 컬럼만 PatientResponseDto 생성자로 바로 매핑
+ * (영속성 컨텍스트 등록, 변경 감지용 스냅샷, image_file_name 로딩 없음)
+ * 요청마다 호출되는 경로라 리포지토리 프록시를 거치지 않고 EntityManager로 직접 실행
+ */
+@Repository
+@RequiredArgsConstructor
+public class PatientReadRepository {
+
+    private static final String SELECT_RESPONSE_DTO = "SELECT new com.heuron.patient_service.dto.PatientResponseDto(" +
+        "p.patientId, p.name, p.age, p.gender, p.hasDisease, p.hasImage, p.createdAt, p.updatedAt) FROM Patient p";
+
+    private final EntityManager entityManager;
+
+    /**
+     * OFFSET 페이지 (patient_id 순, hasImage가 null이면 전체)
+     */
+    public List<PatientResponseDto> findPage(Boolean hasImage, Pageable pageable) {
+        TypedQuery<PatientResponseDto> query = hasImage == null
+            ? entityManager.createQuery(SELECT_RESPONSE_DTO + " ORDER BY p.patientId", PatientResponseDto.class)
+            : entityManager.createQuery(SELECT_RESPONSE_DTO + " WHERE p.hasImage = :hasImage ORDER BY p.patientId", PatientResponseDto.class)
+                .setParameter("hasImage", hasImage);
+        return query
+            .setFirstResult((int) pageable.getOffset())
+            .setMaxResults(pageable.getPageSize())
+            .getResultList();
+    }
+
+    /**
+     * keyset 페이지: patient_id > afterPatientId ORDER BY patient_id LIMIT limit
+     */
+    public List<PatientResponseDto> findAfter(Boolean hasImage, long afterPatientId, int limit) {
+        TypedQuery<PatientResponseDto> query = hasImage == null
+            ? entityManager.createQuery(SELECT_RESPONSE_DTO +
+                " WHERE p.patientId > :patientId ORDER BY p.patientId", PatientResponseDto.class)
+            : entityManager.createQuery(SELECT_RESPONSE_DTO +
+                " WHERE p.hasImage = :hasImage AND p.patientId > :patientId ORDER BY p.patientId", PatientResponseDto.class)
+                .setParameter("hasImage", hasImage);
+        return query
+            .setParameter("patientId", afterPatientId)
+            .setMaxResults(limit)
+            .getResultList();
+    }
+
+    /**
+     * 검색 keyset 페이지: (조건) AND patient_id > afterPatientId ORDER BY patient_id LIMIT limit
+     * 조건 조합이 요청마다 달라지므로 Criteria 생성자 표현식 사용
+     */
+    public List<PatientResponseDto> search(Specification<Patient> spec, long afterPatientId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<PatientResponseDto> query = cb.createQuery(PatientResponseDto.class);
+        Root<Patient> root = query.from(Patient.class);
+
+        query.select(cb.construct(PatientResponseDto.class,
+            root.get("patientId"),
+            root.get("name"),
+            root.get("age"),
+            root.get("gender"),
+            root.get("hasDisease"),
+            root.get("hasImage"),
+            root.get("createdAt"),
+            root.get("updatedAt")));
+        query.where(spec.and(PatientSpecifications.patientIdAfter(afterPatientId)).toPredicate(root, query, cb));
+        query.orderBy(cb.asc(root.get("patientId")));
+
+        return entityManager.createQuery(query)
+            .setMaxResults(limit)
+            .getResultList();
+    }
+}
@@ -1,19 +1,77 @@
 package com.heuron.patient_service.repository;
 
+import com.heuron.patient_service.entity.Gender;
 import com.heuron.patient_service.entity.Patient;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
-public interface PatientRepository extends JpaRepository<Patient, Long> {
+public interface PatientRepository extends JpaRepository<Patient, Long>, JpaSpecificationExecutor<Patient> {
+
+    // 이미지 교체/환자 삭제: 같은 환자의 변경을 직렬화하여 이전 상태(통계 증감, 이전 파일 정리)를 커밋된 값으로 판단
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Patient p WHERE p.patientId = :patientId")
+    Optional<Patient> findByIdForUpdate(@Param("patientId") Long patientId);
+
+    // 이미지 정합성 점검: patient_id 기준 seek (파일 존재 확인에 필요한 컬럼만 조회)
+    @Query("SELECT p.patientId AS patientId, p.imageFileName AS imageFileName FROM Patient p " +
+           "WHERE p.hasImage = true AND p.patientId > :patientId ORDER BY p.patientId ASC")
+    List<ImageReference> findImageReferencesAfter(@Param("patientId") Long patientId, Limit limit);
+
+    // 목록 COUNT (커서 페이징에서는 includeTotal=true일 때만 사용)
+    long countByHasImage(Boolean hasImage);
+
+    // 디렉토리 레이아웃 마이그레이션: 아직 평면 경로(하위 디렉토리 없음)인 이미지 조회
+    @Query("SELECT p FROM Patient p WHERE p.hasImage = true AND p.patientId > :patientId " +
+           "AND p.imageFileName NOT LIKE '%/%' ORDER BY p.patientId ASC")
+    List<Patient> findFlatImagesAfter(@Param("patientId") Long patientId, Limit limit);
+
+    // 파일 위치만 변경되므로 updated_at은 유지
+    @Modifying
+    @Query(value = "UPDATE patient SET image_file_name = :newFileName, updated_at = updated_at " +
+                   "WHERE patient_id = :patientId AND image_file_name = :oldFileName", nativeQuery = true)
+    int updateImageFileName(@Param("patientId") Long patientId,
+                            @Param("oldFileName") String oldFileName,
+                            @Param("newFileName") String newFileName);
+
+    // 이미지 캐시 warm-up: 최근 수정된 환자 이미지 파일명
+    @Query("SELECT p.imageFileName FROM Patient p WHERE p.hasImage = true ORDER BY p.updatedAt DESC")
+    List<String> findRecentImageFileNames(Limit limit);
+
+    // 고아 파일 정리: 업로드 디렉토리 파일명 중 DB가 참조하는 이름 (image_file_name 인덱스)
+    @Query("SELECT p.imageFileName FROM Patient p WHERE p.imageFileName IN :fileNames")
+    List<String> findImageFileNamesIn(@Param("fileNames") Collection<String> fileNames);
+
+    // 통계 재계산: 분류 기준 조합별 건수 (테이블 1회 스캔)
+    @Query("SELECT p.gender AS gender, p.age AS age, p.hasDisease AS hasDisease, p.hasImage AS hasImage, COUNT(p) AS count " +
+           "FROM Patient p GROUP BY p.gender, p.age, p.hasDisease, p.hasImage")
+    List<StatsGroup> countStatsGroups();
+
+    interface ImageReference {
+        Long getPatientId();
+        String getImageFileName();
+    }
+
+    interface StatsGroup {
+        Gender getGender();
+
+        Integer getAge();
+
+        Boolean getHasDisease();
 
-    // imageUploaded=true: 이미지가 있는 환자만 조회
-    Page<Patient> findByImageFileNameIsNotNull(Pageable pageable);
+        Boolean getHasImage();
 
-    // imageUploaded=false: 이미지가 없는 환자만 조회
-    @Query("SELECT p FROM Patient p WHERE p.imageFileName IS NULL OR p.imageFileName = ''")
-    Page<Patient> findByImageFileNameIsNullOrEmpty(Pageable pageable);
-}
\ No newline at end of file
+        long getCount();
+    }
+}
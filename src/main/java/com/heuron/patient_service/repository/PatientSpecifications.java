@@ -0,0 +1,82 @@
+package com.heuron.patient_service.repository;
+
+import com.heuron.patient_service.dto.PatientSearchCondition;
+import com.heuron.patient_service.entity.Gender;
+import com.heuron.patient_service.entity.Patient;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * 환자 검색 조건 조합 (조건이 없으면 null을 반환해 where 절에서 제외)
+ *
+ * 사용 인덱스
+ *   - 이름 접두어: (name, patient_id) 범위 조회 (LIKE '김%') - patient_id 정렬은 일치 행 전체를 정렬
+ *   - 성별/질병 여부: (gender, has_disease, patient_id) - 동등 조건이라 patient_id 순서를 인덱스에서 그대로 사용
+ *     (성별 없이 질병 여부만 주어져도 skip scan 가능)
+ *   - 나이 범위: (age, patient_id) - 이름과 같이 일치 행 전체를 정렬
+ *   - 이미지 여부: (has_image, patient_id)
+ */
+public final class PatientSpecifications {
+
+    private static final char LIKE_ESCAPE = '!';  // 백슬래시는 방언마다 리터럴 처리가 달라 사용하지 않음
+
+    private PatientSpecifications() {
+    }
+
+    public static Specification<Patient> of(PatientSearchCondition condition) {
+        return Specification.allOf(
+            nameStartsWith(condition.namePrefix()),
+            ageGreaterThanOrEqualTo(condition.minAge()),
+            ageLessThanOrEqualTo(condition.maxAge()),
+            genderEquals(condition.gender()),
+            hasDisease(condition.hasDisease()),
+            hasImage(condition.imageUploaded())
+        );
+    }
+
+    /**
+     * keyset 조건: patient_id > afterPatientId
+     */
+    public static Specification<Patient> patientIdAfter(long afterPatientId) {
+        return (root, query, cb) -> cb.greaterThan(root.get("patientId"), afterPatientId);
+    }
+
+    public static Specification<Patient> nameStartsWith(String namePrefix) {
+        if (namePrefix == null || namePrefix.isBlank()) {
+            return null;
+        }
+        String pattern = escapeLike(namePrefix.trim()) + "%";
+        return (root, query, cb) -> cb.like(root.get("name"), pattern, LIKE_ESCAPE);
+    }
+
+    public static Specification<Patient> ageGreaterThanOrEqualTo(Integer minAge) {
+        return minAge == null ? null : (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("age"), minAge);
+    }
+
+    public static Specification<Patient> ageLessThanOrEqualTo(Integer maxAge) {
+        return maxAge == null ? null : (root, query, cb) -> cb.lessThanOrEqualTo(root.get("age"), maxAge);
+    }
+
+    public static Specification<Patient> genderEquals(Gender gender) {
+        return gender == null ? null : (root, query, cb) -> cb.equal(root.get("gender"), gender);
+    }
+
+    public static Specification<Patient> hasDisease(Boolean hasDisease) {
+        return hasDisease == null ? null : (root, query, cb) -> cb.equal(root.get("hasDisease"), hasDisease);
+    }
+
+    public static Specification<Patient> hasImage(Boolean hasImage) {
+        return hasImage == null ? null : (root, query, cb) -> cb.equal(root.get("hasImage"), hasImage);
+    }
+
+    // 접두어 안의 %, _ 는 와일드카드가 아닌 문자로 취급
+    private static String escapeLike(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (char c : value.toCharArray()) {
+            if (c == '%' || c == '_' || c == LIKE_ESCAPE) {
+                escaped.append(LIKE_ESCAPE);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+}
@@ -0,0 +1,304 @@
+package com.heuron.patient_service.service;
+
+import com.heuron.patient_service.repository.ImageContentRepository;
+import com.heuron.patient_service.repository.PatientRepository;
+import com.heuron.patient_service.repository.PatientRepository.ImageReference;
+import com.heuron.patient_service.util.FileUploadUtil;
+import com.heuron.patient_service.util.IoRateLimiter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * 업로드 디렉토리와 DB 간 이미지 정합성 점검
+ * - 고아 파일: 어떤 환자도 참조하지 않는 파일을 유예 기간이 지나면 격리 디렉토리로 이동
+ * - 끊어진 참조: 파일이 없는 image_file_name을 보고
+ * 최상위 하위 디렉토리별로 병렬 탐색하고, 파일명은 배치 단위 IN 조회로 확인
+ * 파일 접근 속도는 image.reconcile.max-files-per-second 로 제한
+ */
+@Slf4j
+@Service
+public class ImageReconciliationService {
+
+    private final PatientRepository patientRepository;
+    private final ImageContentRepository imageContentRepository;
+    private final FileUploadUtil fileUploadUtil;
+    private final ThumbnailService thumbnailService;
+    private final int batchSize;
+    private final int parallelism;
+    private final Duration gracePeriod;
+    private final int maxFilesPerSecond;
+    private final int maxReportedDangling;
+
+    public ImageReconciliationService(
+            PatientRepository patientRepository,
+            ImageContentRepository imageContentRepository,
+            FileUploadUtil fileUploadUtil,
+            ThumbnailService thumbnailService,
+            @Value("${image.reconcile.batch-size:1000}") int batchSize,
+            @Value("${image.reconcile.parallelism:4}") int parallelism,
+            @Value("${image.reconcile.grace-period:24h}") Duration gracePeriod,
+            @Value("${image.reconcile.max-files-per-second:500}") int maxFilesPerSecond,
+            @Value("${image.reconcile.max-reported-dangling:100}") int maxReportedDangling) {
+        this.patientRepository = patientRepository;
+        this.imageContentRepository = imageContentRepository;
+        this.fileUploadUtil = fileUploadUtil;
+        this.thumbnailService = thumbnailService;
+        this.batchSize = batchSize;
+        this.parallelism = parallelism;
+        this.gracePeriod = gracePeriod;
+        this.maxFilesPerSecond = maxFilesPerSecond;
+        this.maxReportedDangling = maxReportedDangling;
+    }
+
+    @Scheduled(cron = "${image.reconcile.cron:-}")
+    public void scheduledReconcile() {
+        reconcile();
+    }
+
+    public ReconciliationResult reconcile() {
+        long startedAt = System.nanoTime();
+        Path root = fileUploadUtil.getUploadRoot();
+        if (!Files.isDirectory(root)) {
+            log.info("Image reconciliation skipped, upload directory does not exist: {}", root);
+            return new ReconciliationResult(0, 0, 0, 0, List.of());
+        }
+
+        ReconciliationStats stats = new ReconciliationStats();
+        IoRateLimiter rateLimiter = new IoRateLimiter(maxFilesPerSecond);
+        Instant cutoff = Instant.now().minus(gracePeriod);
+
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            List<Future<?>> tasks = new ArrayList<>();
+            // 최상위 파일은 배치 단위로, 하위 디렉토리는 디렉토리 단위로 병렬 처리
+            walk(root, root, rateLimiter,
+                batch -> tasks.add(executor.submit(() -> checkOrphans(batch, cutoff, stats))),
+                directory -> tasks.add(executor.submit(() ->
+                    walk(root, directory, rateLimiter, batch -> checkOrphans(batch, cutoff, stats), null))));
+            await(tasks);
+
+            tasks.clear();
+            findDanglingReferences(executor, rateLimiter, stats, tasks);
+            await(tasks);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        ReconciliationResult result = stats.toResult(maxReportedDangling);
+        log.info("Image reconciliation completed: scanned={}, quarantined={}, withinGracePeriod={}, dangling={}, elapsedMs={}",
+            result.scannedFiles(), result.quarantinedFiles(), result.orphansWithinGracePeriod(),
+            result.danglingReferences(), Duration.ofNanos(System.nanoTime() - startedAt).toMillis());
+        if (result.danglingReferences() > 0) {
+            log.warn("Dangling image references (patientId=fileName): {}", result.danglingSamples());
+        }
+        return result;
+    }
+
+    /**
+     * 디렉토리 탐색 후 파일을 배치 단위로 전달
+     * directoryHandler가 있으면 하위 디렉토리는 직접 탐색하지 않고 넘김 (병렬 탐색용)
+     */
+    private void walk(Path root, Path start, IoRateLimiter rateLimiter,
+                      Consumer<List<ScannedFile>> batchHandler, Consumer<Path> directoryHandler) {
+        List<ScannedFile> batch = new ArrayList<>(batchSize);
+        try {
+            Files.walkFileTree(start, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                    if (dir.equals(start)) {
+                        return FileVisitResult.CONTINUE;
+                    }
+                    if (dir.getParent().equals(root) && fileUploadUtil.isReservedDirectory(dir.getFileName().toString())) {
+                        return FileVisitResult.SKIP_SUBTREE;
+                    }
+                    if (directoryHandler != null) {
+                        directoryHandler.accept(dir);
+                        return FileVisitResult.SKIP_SUBTREE;
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                    if (!attrs.isRegularFile() || fileUploadUtil.isStagingFile(file.getFileName().toString())) {
+                        return FileVisitResult.CONTINUE;
+                    }
+                    rateLimiter.acquire();
+                    batch.add(new ScannedFile(toFileName(root, file), attrs.lastModifiedTime().toInstant()));
+                    if (batch.size() >= batchSize) {
+                        batchHandler.accept(List.copyOf(batch));
+                        batch.clear();
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException e) {
+                    log.warn("Image reconciliation could not read {}: {}", file, e.getMessage());
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to walk upload directory: " + start, e);
+        }
+        if (!batch.isEmpty()) {
+            batchHandler.accept(List.copyOf(batch));
+        }
+    }
+
+    /**
+     * 배치 내 파일명을 환자/참조 수 테이블에서 한 번에 조회하고, 참조되지 않는 파일을 격리
+     */
+    private void checkOrphans(List<ScannedFile> batch, Instant cutoff, ReconciliationStats stats) {
+        List<String> fileNames = batch.stream().map(ScannedFile::fileName).toList();
+        Set<String> referenced = new HashSet<>(patientRepository.findImageFileNamesIn(fileNames));
+        referenced.addAll(imageContentRepository.findFileNamesIn(fileNames));
+
+        for (ScannedFile file : batch) {
+            if (referenced.contains(file.fileName())) {
+                continue;
+            }
+            // 조회 이후 재사용(수정 시각 갱신)된 파일을 제외하기 위해 격리 직전 수정 시각을 다시 확인
+            if (file.lastModified().isAfter(cutoff) || isModifiedAfter(file.fileName(), cutoff)) {
+                stats.orphansWithinGracePeriod.incrementAndGet();
+                continue;
+            }
+            if (fileUploadUtil.quarantineFile(file.fileName())) {
+                thumbnailService.deleteDerivatives(file.fileName());
+                stats.quarantined.incrementAndGet();
+                log.info("Orphan image quarantined: {}", file.fileName());
+            }
+        }
+        stats.scanned.addAndGet(batch.size());
+    }
+
+    /**
+     * 이미지가 있는 환자를 patient_id 순으로 배치 조회하여 파일 존재 여부 확인
+     * 파일 확인은 속도 제한을 받으므로, 처리 중인 배치가 parallelism * 2 개를 넘으면 다음 배치 조회를 대기
+     * (환자 전체가 메모리에 쌓이지 않도록). 방금 교체된 이미지를 잘못 보고하지 않도록 트랜잭션 없이 primary에서 조회
+     */
+    private void findDanglingReferences(ExecutorService executor, IoRateLimiter rateLimiter,
+                                        ReconciliationStats stats, List<Future<?>> tasks) {
+        Semaphore inFlight = new Semaphore(parallelism * 2);
+        long lastPatientId = 0L;
+        while (true) {
+            acquire(inFlight);
+            List<ImageReference> batch = patientRepository.findImageReferencesAfter(lastPatientId, Limit.of(batchSize));
+            if (batch.isEmpty()) {
+                inFlight.release();
+                return;
+            }
+            awaitCompleted(tasks);
+            tasks.add(executor.submit(() -> {
+                try {
+                    for (ImageReference reference : batch) {
+                        rateLimiter.acquire();
+                        if (!Files.isRegularFile(fileUploadUtil.getFilePath(reference.getImageFileName()))) {
+                            stats.recordDangling(reference.getPatientId() + "=" + reference.getImageFileName(), maxReportedDangling);
+                        }
+                    }
+                } finally {
+                    inFlight.release();
+                }
+            }));
+            lastPatientId = batch.get(batch.size() - 1).getPatientId();
+        }
+    }
+
+    private boolean isModifiedAfter(String fileName, Instant cutoff) {
+        try {
+            return Files.getLastModifiedTime(fileUploadUtil.getFilePath(fileName)).toInstant().isAfter(cutoff);
+        } catch (IOException e) {
+            // 이미 삭제된 파일
+            return true;
+        }
+    }
+
+    private static String toFileName(Path root, Path file) {
+        return root.relativize(file).toString().replace('\\', '/');
+    }
+
+    private static void acquire(Semaphore semaphore) {
+        try {
+            semaphore.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Image reconciliation interrupted", e);
+        }
+    }
+
+    // 끝난 작업은 결과(예외)를 확인하고 목록에서 제거
+    private static void awaitCompleted(List<Future<?>> tasks) {
+        List<Future<?>> completed = tasks.stream().filter(Future::isDone).toList();
+        await(completed);
+        tasks.removeAll(completed);
+    }
+
+    private static void await(List<Future<?>> tasks) {
+        for (Future<?> task : tasks) {
+            try {
+                task.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Image reconciliation interrupted", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Image reconciliation failed", e.getCause());
+            }
+        }
+    }
+
+    private record ScannedFile(String fileName, Instant lastModified) {}
+
+    private static class ReconciliationStats {
+        private final AtomicLong scanned = new AtomicLong();
+        private final AtomicLong quarantined = new AtomicLong();
+        private final AtomicLong orphansWithinGracePeriod = new AtomicLong();
+        private final AtomicLong dangling = new AtomicLong();
+        private final Queue<String> danglingSamples = new ConcurrentLinkedQueue<>();
+
+        void recordDangling(String sample, int maxSamples) {
+            if (dangling.incrementAndGet() <= maxSamples) {
+                danglingSamples.add(sample);
+            }
+        }
+
+        ReconciliationResult toResult(int maxSamples) {
+            return new ReconciliationResult(scanned.get(), quarantined.get(), orphansWithinGracePeriod.get(),
+                dangling.get(), danglingSamples.stream().limit(maxSamples).toList());
+        }
+    }
+
+    public record ReconciliationResult(
+        long scannedFiles,
+        long quarantinedFiles,
+        long orphansWithinGracePeriod,
+        long danglingReferences,
+        List<String> danglingSamples
+    ) {}
+}
@@ -1,12 +1,21 @@
 package com.heuron.patient_service.service;
 
+import com.heuron.patient_service.cache.CachedPatient;
+import com.heuron.patient_service.cache.ImageByteCache;
+import com.heuron.patient_service.cache.PatientCache;
 import com.heuron.patient_service.dto.ImageUploadResponseDto;
 import com.heuron.patient_service.entity.Patient;
 import com.heuron.patient_service.event.FileCleanupEvent;
+import com.heuron.patient_service.event.ImageUploadedEvent;
+import com.heuron.patient_service.event.PatientChangedEvent;
+import com.heuron.patient_service.event.PatientStatsEvent;
 import com.heuron.patient_service.exception.ImageNotFoundException;
 import com.heuron.patient_service.exception.PatientNotFoundException;
 import com.heuron.patient_service.repository.PatientRepository;
 import com.heuron.patient_service.util.FileUploadUtil;
+import com.heuron.patient_service.util.ImageSize;
+import com.heuron.patient_service.util.StagedFile;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
@@ -20,10 +29,15 @@ import java.io.IOException;
 @Slf4j
 @Service
 @RequiredArgsConstructor
+@Timed("service.method")
 public class ImageService {
 
     private final PatientRepository patientRepository;
+    private final PatientCache patientCache;
     private final FileUploadUtil fileUploadUtil;
+    private final ImageStorageService imageStorageService;
+    private final ThumbnailService thumbnailService;
+    private final ImageByteCache imageByteCache;
     private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
@@ -31,14 +45,30 @@ public class ImageService {
         log.info("Uploading image for patient: patientId={}, fileName={}, size={}",
             patientId, file.getOriginalFilename(), file.getSize());
 
-        Patient patient = patientRepository.findById(patientId)
+        return saveImage(patientId, () -> imageStorageService.store(file, patientId));
+    }
+
+    /**
+     * 분할 업로드로 전송/검증을 마친 임시 파일을 환자 이미지로 저장 (multipart 업로드와 같은 커밋/정리 흐름)
+     */
+    @Transactional
+    public ImageUploadResponseDto uploadImage(Long patientId, StagedFile stagedFile) throws IOException {
+        log.info("Uploading staged image for patient: patientId={}, file={}", patientId, stagedFile.tempFile().getFileName());
+
+        return saveImage(patientId, () -> imageStorageService.store(stagedFile, patientId));
+    }
+
+    private ImageUploadResponseDto saveImage(Long patientId, ImageStore imageStore) throws IOException {
+        // 행 잠금: 같은 환자의 동시 업로드가 같은 이전 상태로 통계를 이중 반영하지 않도록 직렬화
+        Patient patient = patientRepository.findByIdForUpdate(patientId)
             .orElseThrow(() -> new PatientNotFoundException(patientId));
 
         // 기존 이미지 파일명 백업
         String oldImageFileName = patient.getImageFileName();
+        PatientStatsEvent.Entry statsBefore = PatientStatsEvent.Entry.of(patient);
 
         // 새 이미지 저장
-        String newFileName = fileUploadUtil.saveFile(file, patientId);
+        String newFileName = imageStore.store();
 
         // 환자 정보 업데이트
         patient.uploadImage(newFileName);
@@ -50,6 +80,10 @@ public class ImageService {
         eventPublisher.publishEvent(
             FileCleanupEvent.forImageUpdate(oldImageFileName, newFileName)
         );
+        eventPublisher.publishEvent(new PatientChangedEvent(patientId));
+        eventPublisher.publishEvent(PatientStatsEvent.updated(statsBefore, patient));
+        // 이벤트 발행 - 트랜잭션 커밋 후 축소본 생성
+        eventPublisher.publishEvent(new ImageUploadedEvent(patientId, newFileName));
 
         return new ImageUploadResponseDto(
             patientId,
@@ -60,9 +94,18 @@ public class ImageService {
 
     @Transactional(readOnly = true)
     public Resource getImage(Long patientId) {
+        return loadImage(getImageFileName(patientId));
+    }
+
+    /**
+     * 환자의 저장된 이미지 파일명 조회 (파일은 읽지 않음)
+     * 조건부 요청(ETag/Last-Modified) 판단에 사용
+     */
+    @Transactional(readOnly = true)
+    public String getImageFileName(Long patientId) {
         log.debug("Fetching image for patient: patientId={}", patientId);
 
-        Patient patient = patientRepository.findById(patientId)
+        CachedPatient patient = patientCache.findById(patientId)
             .orElseThrow(() -> new PatientNotFoundException(patientId));
 
         if (!patient.hasImage()) {
@@ -70,8 +113,43 @@ public class ImageService {
             throw new ImageNotFoundException(patientId);
         }
 
+        return patient.imageFileName();
+    }
+
+    /**
+     * 요청 크기에 맞는 파일명 (축소본이 아직 없으면 원본)
+     * 축소본이 이미지 캐시에 있으면 파일 존재 확인 생략
+     */
+    public String resolveImageFileName(String fileName, ImageSize size) {
+        if (size.isDerivative()) {
+            String derivativeFileName = fileUploadUtil.getDerivativeFileName(fileName, size);
+            if (imageByteCache.contains(derivativeFileName)) {
+                return derivativeFileName;
+            }
+        }
+        return thumbnailService.resolveFileName(fileName, size);
+    }
+
+    /**
+     * 이미지 Resource (캐시 활성화 시 캐시된 바이트, 아니면 파일)
+     */
+    public Resource loadImage(String fileName) {
         // FileUploadUtil을 통해 파일 로드 (하드코딩 제거)
-        return fileUploadUtil.loadFileAsResource(patient.getImageFileName());
+        return imageByteCache.resolve(fileName, () -> fileUploadUtil.loadFileAsResource(fileName));
+    }
+
+    /**
+     * 강한 ETag: 저장 파일명은 업로드마다 새로 생성되므로 내용 식별자로 사용
+     */
+    public String getImageETag(String fileName) {
+        return "\"" + fileName + "\"";
+    }
+
+    /**
+     * 이미지 최종 수정 시각 (파일명에 포함된 업로드 타임스탬프, 없으면 파일 수정 시각)
+     */
+    public long getImageLastModified(String fileName) {
+        return fileUploadUtil.getUploadedAt(fileName);
     }
 
     public String getImageMediaType(String fileName) {
@@ -86,4 +164,9 @@ public class ImageService {
             default -> "application/octet-stream";
         };
     }
+
+    @FunctionalInterface
+    private interface ImageStore {
+        String store() throws IOException;
+    }
 }
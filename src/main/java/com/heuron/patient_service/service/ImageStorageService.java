@@ -0,0 +1,113 @@
+package com.heuron.patient_service.service;
+
+import com.heuron.patient_service.entity.ImageContent;
+import com.heuron.patient_service.repository.ImageContentRepository;
+import com.heuron.patient_service.util.FileUploadUtil;
+import com.heuron.patient_service.util.StagedFile;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * 이미지 파일 저장소
+ * file.storage.deduplicate=true 이면 SHA-256 내용 주소로 저장하여 같은 내용은 한 번만 보관하고,
+ * image_content 참조 수로 실제 삭제 시점을 결정
+ */
+@Slf4j
+@Service
+public class ImageStorageService {
+
+    private final FileUploadUtil fileUploadUtil;
+    private final ThumbnailService thumbnailService;
+    private final ImageContentRepository imageContentRepository;
+    private final boolean deduplicate;
+
+    public ImageStorageService(
+            FileUploadUtil fileUploadUtil,
+            ThumbnailService thumbnailService,
+            ImageContentRepository imageContentRepository,
+            @Value("${file.storage.deduplicate:false}") boolean deduplicate) {
+        this.fileUploadUtil = fileUploadUtil;
+        this.thumbnailService = thumbnailService;
+        this.imageContentRepository = imageContentRepository;
+        this.deduplicate = deduplicate;
+    }
+
+    /**
+     * 업로드 파일 저장 후 저장 파일명 반환
+     * 중복 제거 모드에서는 참조 수를 먼저 올려 (행 잠금) 동시 삭제와 경합하지 않도록 한 뒤 파일을 배치
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public String store(MultipartFile file, Long patientId) throws IOException {
+        if (!deduplicate) {
+            return fileUploadUtil.saveFile(file, patientId);
+        }
+        return storeContentAddressed(fileUploadUtil.stageFile(file), patientId);
+    }
+
+    /**
+     * 검증을 마친 임시 파일 (분할 업로드) 저장 후 저장 파일명 반환
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public String store(StagedFile stagedFile, Long patientId) throws IOException {
+        if (!deduplicate) {
+            return fileUploadUtil.storeStagedFile(stagedFile, patientId);
+        }
+        return storeContentAddressed(stagedFile, patientId);
+    }
+
+    private String storeContentAddressed(StagedFile stagedFile, Long patientId) throws IOException {
+        String fileName = fileUploadUtil.toStoredFileName(stagedFile.sha256() + "." + stagedFile.extension());
+        try {
+            imageContentRepository.acquire(fileName);
+        } catch (RuntimeException e) {
+            fileUploadUtil.discardStagedFile(stagedFile);
+            throw e;
+        }
+        fileUploadUtil.moveStagedContent(stagedFile, fileName);
+
+        log.debug("Content-addressed image stored: patientId={}, fileName={}", patientId, fileName);
+        return fileName;
+    }
+
+    /**
+     * 커밋된 변경으로 더 이상 사용하지 않는 파일 삭제
+     * 참조 수가 기록된 파일은 참조 수만 감소시키고, 0이 되면 실제로 삭제
+     * 정리 작업 큐(outbox) 처리 트랜잭션에 참여하여 참조 수 감소와 작업 완료가 함께 커밋됨
+     */
+    @Transactional
+    public void delete(String fileName) {
+        Optional<ImageContent> content = imageContentRepository.findByIdForUpdate(fileName);
+        if (content.isPresent() && content.get().release() > 0) {
+            log.debug("Image reference released: fileName={}, refCount={}", fileName, content.get().getRefCount());
+            return;
+        }
+        content.ifPresent(imageContentRepository::delete);
+        // 행 잠금을 보유한 상태에서 삭제하여 동시 업로드가 삭제 중인 파일을 재사용하지 않도록 함
+        deleteWithDerivatives(fileName);
+    }
+
+    /**
+     * 롤백된 업로드의 신규 파일 정리
+     * 다른 환자가 같은 내용을 참조 중이면 (참조 수 행이 존재) 삭제하지 않음
+     */
+    @Transactional
+    public void discard(String fileName) {
+        if (imageContentRepository.findByIdForUpdate(fileName).isPresent()) {
+            log.debug("Rolled back image still referenced, kept: fileName={}", fileName);
+            return;
+        }
+        deleteWithDerivatives(fileName);
+    }
+
+    private void deleteWithDerivatives(String fileName) {
+        fileUploadUtil.deleteFile(fileName);
+        thumbnailService.deleteDerivatives(fileName);
+    }
+}
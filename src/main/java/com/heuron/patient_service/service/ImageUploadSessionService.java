@@ -0,0 +1,353 @@
+package com.heuron.patient_service.service;
+
+import com.heuron.patient_service.dto.ImageUploadResponseDto;
+import com.heuron.patient_service.dto.ImageUploadSessionDto;
+import com.heuron.patient_service.dto.ImageUploadSessionRequestDto;
+import com.heuron.patient_service.entity.ImageUploadSession;
+import com.heuron.patient_service.exception.InvalidImageException;
+import com.heuron.patient_service.exception.PatientNotFoundException;
+import com.heuron.patient_service.exception.UploadSessionConflictException;
+import com.heuron.patient_service.exception.UploadSessionNotFoundException;
+import com.heuron.patient_service.repository.ImageUploadSessionRepository;
+import com.heuron.patient_service.repository.PatientRepository;
+import com.heuron.patient_service.util.FileUploadUtil;
+import com.heuron.patient_service.util.StagedFile;
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.heuron.patient_service.exception.ErrorMessage.*;
+
+/**
+ * 이미지 분할 업로드 (재개 가능)
+ * 세션 생성 → offset 위치에 청크 전송 (임시 파일에 이어 붙임) → 완료 시 검증 후 일반 업로드와 같은 흐름으로 저장
+ * 연결이 끊겨도 저장된 위치(임시 파일 크기)부터 다시 보내면 되고, 요청 하나가 Tomcat 스레드를 잡는 시간은 청크 하나 분량
+ * 같은 세션에 대한 동시 요청은 임시 파일 잠금 (tryLock) 으로 거부하므로 인스턴스가 여러 개여도 세션 고정이 필요 없음
+ * (임시 파일은 업로드 디렉토리에 있으므로 파일 잠금을 지원하는 공유 저장소 전제)
+ * 클라이언트 속도로 진행되는 청크 기록 중에는 DB 커넥션을 잡지 않고, 완료/취소/정리만 세션 행을 잠근 짧은 트랜잭션으로 처리
+ */
+@Slf4j
+@Service
+@Timed("service.method")
+public class ImageUploadSessionService {
+
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+    private static final int CLEANUP_BATCH_SIZE = 100;
+
+    private final ImageUploadSessionRepository imageUploadSessionRepository;
+    private final PatientRepository patientRepository;
+    private final ImageService imageService;
+    private final FileUploadUtil fileUploadUtil;
+    private final TransactionTemplate transactionTemplate;
+    private final DataSize maxFileSize;
+    private final Duration expireAfter;
+
+    public ImageUploadSessionService(
+            ImageUploadSessionRepository imageUploadSessionRepository,
+            PatientRepository patientRepository,
+            ImageService imageService,
+            FileUploadUtil fileUploadUtil,
+            TransactionTemplate transactionTemplate,
+            @Value("${file.upload-session.max-file-size:100MB}") DataSize maxFileSize,
+            @Value("${file.upload-session.expire-after:24h}") Duration expireAfter) {
+        this.imageUploadSessionRepository = imageUploadSessionRepository;
+        this.patientRepository = patientRepository;
+        this.imageService = imageService;
+        this.fileUploadUtil = fileUploadUtil;
+        this.transactionTemplate = transactionTemplate;
+        this.maxFileSize = maxFileSize;
+        this.expireAfter = expireAfter;
+    }
+
+    /**
+     * 업로드 세션 생성 (파일명/크기 검증 후 빈 임시 파일 생성)
+     */
+    @Transactional
+    public ImageUploadSessionDto createSession(Long patientId, ImageUploadSessionRequestDto request) throws IOException {
+        if (!patientRepository.existsById(patientId)) {
+            throw new PatientNotFoundException(patientId);
+        }
+        String extension = fileUploadUtil.validateFileName(request.fileName());
+        if (request.fileSize() > maxFileSize.toBytes()) {
+            throw new InvalidImageException(UPLOAD_SIZE_EXCEEDED + maxFileSize);
+        }
+
+        ImageUploadSession session = imageUploadSessionRepository.save(
+            ImageUploadSession.create(patientId, extension, request.fileSize(), expireAfter));
+        Path partFile = fileUploadUtil.getUploadSessionFile(session.getId());
+        Files.createDirectories(partFile.getParent());
+        Files.createFile(partFile);
+
+        log.info("Image upload session created: uploadId={}, patientId={}, fileSize={}",
+            session.getId(), patientId, request.fileSize());
+        return ImageUploadSessionDto.from(session, 0);
+    }
+
+    /**
+     * 세션 상태 조회 (저장된 위치 = 다음 청크의 offset)
+     */
+    public ImageUploadSessionDto getSession(Long patientId, String uploadId) throws IOException {
+        ImageUploadSession session = findSession(patientId, uploadId);
+        return ImageUploadSessionDto.from(session, committedOffset(session));
+    }
+
+    /**
+     * offset 위치에 청크 기록
+     * offset은 저장된 위치와 같아야 하며 (다르면 409와 현재 위치로 재동기화), 세션 파일 크기를 넘는 데이터는 거부
+     * 전송 중 연결이 끊기면 그때까지 받은 바이트는 남으므로 조회한 offset부터 이어서 전송
+     */
+    public ImageUploadSessionDto appendChunk(Long patientId, String uploadId, long offset, InputStream in) throws IOException {
+        ImageUploadSession session = findSession(patientId, uploadId);
+        try (FileChannel channel = openSessionFile(uploadId);
+             FileLock lock = lockSessionFile(channel, uploadId)) {
+            // 완료/취소가 먼저 잠금을 잡고 세션을 삭제했을 수 있으므로 잠금 후 다시 확인
+            if (!imageUploadSessionRepository.existsById(uploadId)) {
+                throw new UploadSessionNotFoundException(uploadId);
+            }
+            long committed = channel.size();
+            if (offset != committed) {
+                throw new UploadSessionConflictException(UPLOAD_OFFSET_MISMATCH + committed);
+            }
+
+            long written = copyWithLimit(in, channel.position(committed), session.getFileSize() - committed);
+            channel.force(false);
+
+            log.debug("Image upload chunk stored: uploadId={}, offset={}, size={}", uploadId, offset, written);
+            return ImageUploadSessionDto.from(session, committed + written);
+        }
+    }
+
+    /**
+     * 업로드 완료: 전체 크기 확인 → MIME 검증 → 환자 이미지로 저장하고 세션 삭제 (세션 행을 잠근 한 트랜잭션)
+     * 임시 파일의 링크(또는 복사본)를 저장하므로, 저장 중 오류로 롤백되면 세션과 임시 파일이 남아 다시 완료 요청 가능
+     * 파일 검증에 실패하면 다시 요청해도 같은 결과이므로 세션을 폐기
+     * 커밋과 임시 파일 삭제까지 임시 파일 잠금을 유지하여 그 사이 청크 기록이 저장된 파일에 섞이지 않도록 함
+     */
+    public ImageUploadResponseDto complete(Long patientId, String uploadId) throws IOException {
+        ImageUploadResponseDto response;
+        try (FileChannel channel = openSessionFile(uploadId);
+             FileLock lock = lockSessionFile(channel, uploadId)) {
+            try {
+                response = inLockedSession(patientId, uploadId, session -> {
+                    long committed = channel.size();
+                    if (committed != session.getFileSize()) {
+                        throw new UploadSessionConflictException(UPLOAD_INCOMPLETE + committed + " / " + session.getFileSize());
+                    }
+
+                    StagedFile stagedFile = fileUploadUtil.stageUploadedFile(
+                        fileUploadUtil.getUploadSessionFile(uploadId), session.getExtension());
+                    try {
+                        ImageUploadResponseDto uploaded = imageService.uploadImage(patientId, stagedFile);
+                        imageUploadSessionRepository.delete(session);
+                        return uploaded;
+                    } catch (IOException | RuntimeException e) {
+                        // 저장 파일로 이동하기 전에 실패한 경우의 스테이징 파일 정리 (이동 후면 이미 없음)
+                        fileUploadUtil.discardStagedFile(stagedFile);
+                        throw e;
+                    }
+                });
+            } catch (InvalidImageException e) {
+                inLockedSession(patientId, uploadId, session -> discard(session));
+                deleteSessionFile(uploadId);
+                throw e;
+            }
+            deleteSessionFile(uploadId);
+        }
+
+        log.info("Image upload session completed: uploadId={}, patientId={}", uploadId, patientId);
+        return response;
+    }
+
+    /**
+     * 업로드 취소 (세션과 임시 파일 삭제)
+     */
+    public void cancel(Long patientId, String uploadId) throws IOException {
+        try (FileChannel channel = openSessionFile(uploadId);
+             FileLock lock = lockSessionFile(channel, uploadId)) {
+            inLockedSession(patientId, uploadId, session -> discard(session));
+            deleteSessionFile(uploadId);
+        }
+        log.info("Image upload session cancelled: uploadId={}", uploadId);
+    }
+
+    /**
+     * 만료된 세션과 임시 파일 정리 (주기 실행)
+     */
+    @Scheduled(fixedDelayString = "${file.upload-session.cleanup-interval:1h}")
+    public void removeExpiredSessions() {
+        List<ImageUploadSession> expired;
+        int removed = 0;
+        int batchRemoved;
+        do {
+            expired = imageUploadSessionRepository.findByExpiresAtBefore(LocalDateTime.now(), Limit.of(CLEANUP_BATCH_SIZE));
+            batchRemoved = 0;
+            for (ImageUploadSession session : expired) {
+                if (removeExpiredSession(session.getId())) {
+                    batchRemoved++;
+                }
+            }
+            removed += batchRemoved;
+        } while (expired.size() == CLEANUP_BATCH_SIZE && batchRemoved > 0);
+
+        if (removed > 0) {
+            log.info("Expired image upload sessions removed: count={}", removed);
+        }
+    }
+
+    // 처리 중인 (잠긴) 세션은 다음 주기에 정리
+    private boolean removeExpiredSession(String uploadId) {
+        // 임시 파일이 없는 세션 행도 정리되도록 CREATE (행 삭제 후 함께 삭제)
+        try (FileChannel channel = FileChannel.open(fileUploadUtil.getUploadSessionFile(uploadId),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+             FileLock lock = channel.tryLock()) {
+            if (lock == null) {
+                return false;
+            }
+            boolean removed = Boolean.TRUE.equals(transactionTemplate.execute(status ->
+                imageUploadSessionRepository.findByIdForUpdate(uploadId)
+                    .map(session -> {
+                        imageUploadSessionRepository.delete(session);
+                        return true;
+                    })
+                    .orElse(false)));
+            if (removed) {
+                deleteSessionFile(uploadId);
+            }
+            return removed;
+        } catch (OverlappingFileLockException | PessimisticLockingFailureException | QueryTimeoutException e) {
+            return false;
+        } catch (IOException e) {
+            log.warn("Failed to lock upload session file: uploadId={}, reason={}", uploadId, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 세션 행을 잠근 트랜잭션 안에서 처리 (다른 요청이 처리 중이면 409)
+     * 잠금 실패는 DB에 따라 PessimisticLockingFailureException (MySQL NOWAIT) 또는 QueryTimeoutException (H2) 으로 전달됨
+     */
+    private <T> T inLockedSession(Long patientId, String uploadId, SessionOperation<T> operation) throws IOException {
+        try {
+            return transactionTemplate.execute(status -> {
+                ImageUploadSession session = lockSession(patientId, uploadId);
+                try {
+                    return operation.apply(session);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private ImageUploadSession lockSession(Long patientId, String uploadId) {
+        try {
+            return imageUploadSessionRepository.findByIdForUpdate(uploadId)
+                .filter(session -> session.getPatientId().equals(patientId) && !session.isExpired())
+                .orElseThrow(() -> new UploadSessionNotFoundException(uploadId));
+        } catch (PessimisticLockingFailureException | QueryTimeoutException e) {
+            throw new UploadSessionConflictException(UPLOAD_IN_PROGRESS + uploadId);
+        }
+    }
+
+    private ImageUploadSession findSession(Long patientId, String uploadId) {
+        return imageUploadSessionRepository.findById(uploadId)
+            .filter(session -> session.getPatientId().equals(patientId) && !session.isExpired())
+            .orElseThrow(() -> new UploadSessionNotFoundException(uploadId));
+    }
+
+    private FileChannel openSessionFile(String uploadId) throws IOException {
+        try {
+            return FileChannel.open(fileUploadUtil.getUploadSessionFile(uploadId), StandardOpenOption.WRITE);
+        } catch (NoSuchFileException e) {
+            throw new UploadSessionNotFoundException(uploadId);
+        }
+    }
+
+    /**
+     * 임시 파일 배타 잠금 (청크 기록/완료/취소 직렬화, 다른 인스턴스 포함)
+     * 기다리지 않고 실패하며, 같은 JVM의 다른 요청이 잡고 있으면 OverlappingFileLockException
+     */
+    private FileLock lockSessionFile(FileChannel channel, String uploadId) throws IOException {
+        try {
+            FileLock lock = channel.tryLock();
+            if (lock != null) {
+                return lock;
+            }
+        } catch (OverlappingFileLockException e) {
+            // 아래에서 409로 처리
+        }
+        throw new UploadSessionConflictException(UPLOAD_IN_PROGRESS + uploadId);
+    }
+
+    private long committedOffset(ImageUploadSession session) throws IOException {
+        try {
+            return Files.size(fileUploadUtil.getUploadSessionFile(session.getId()));
+        } catch (NoSuchFileException e) {
+            throw new UploadSessionNotFoundException(session.getId());
+        }
+    }
+
+    // 세션 행 삭제 (임시 파일은 커밋 후 deleteSessionFile로 삭제하여 롤백 시에도 세션과 파일이 함께 남도록)
+    private Void discard(ImageUploadSession session) {
+        imageUploadSessionRepository.delete(session);
+        return null;
+    }
+
+    private void deleteSessionFile(String uploadId) {
+        try {
+            Files.deleteIfExists(fileUploadUtil.getUploadSessionFile(uploadId));
+        } catch (IOException e) {
+            log.warn("Failed to delete upload session file: uploadId={}, reason={}", uploadId, e.getMessage());
+        }
+    }
+
+    /**
+     * 고정 크기 버퍼로 요청 본문을 파일 끝에 기록 (남은 크기를 넘으면 해당 버퍼부터 기록하지 않고 거부)
+     */
+    private long copyWithLimit(InputStream in, FileChannel channel, long remaining) throws IOException {
+        byte[] buffer = new byte[COPY_BUFFER_SIZE];
+        long written = 0;
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            if (written + read > remaining) {
+                throw new InvalidImageException(UPLOAD_CHUNK_EXCEEDS_SIZE);
+            }
+            ByteBuffer chunk = ByteBuffer.wrap(buffer, 0, read);
+            while (chunk.hasRemaining()) {
+                channel.write(chunk);
+            }
+            written += read;
+        }
+        return written;
+    }
+
+    @FunctionalInterface
+    private interface SessionOperation<T> {
+        T apply(ImageUploadSession session) throws IOException;
+    }
+}
@@ -0,0 +1,121 @@
+package com.heuron.patient_service.service;
+
+import com.heuron.patient_service.dto.PatientBatchItemResultDto;
+import com.heuron.patient_service.dto.PatientBatchResponseDto;
+import com.heuron.patient_service.dto.PatientRequestDto;
+import com.heuron.patient_service.event.PatientStatsEvent;
+import com.heuron.patient_service.exception.BatchSizeExceededException;
+import com.heuron.patient_service.repository.PatientBatchRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 환자 일괄 등록 서비스
+ * 항목별로 검증한 뒤 유효한 항목만 청크 단위 트랜잭션으로 JDBC 배치 INSERT
+ * 한 청크가 실패해도 다른 청크에는 영향 없음
+ */
+@Slf4j
+@Service
+public class PatientBatchService {
+
+    private final PatientBatchRepository patientBatchRepository;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+    private final int maxSize;
+
+    public PatientBatchService(
+            PatientBatchRepository patientBatchRepository,
+            Validator validator,
+            TransactionTemplate transactionTemplate,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${patient.batch.chunk-size:500}") int chunkSize,
+            @Value("${patient.batch.max-size:10000}") int maxSize) {
+        this.patientBatchRepository = patientBatchRepository;
+        this.validator = validator;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+        this.maxSize = maxSize;
+    }
+
+    public PatientBatchResponseDto createPatients(List<PatientRequestDto> requests) {
+        if (requests.size() > maxSize) {
+            throw new BatchSizeExceededException(maxSize);
+        }
+        log.info("Creating patients in batch: total={}, chunkSize={}", requests.size(), chunkSize);
+
+        PatientBatchItemResultDto[] results = new PatientBatchItemResultDto[requests.size()];
+        List<Integer> validIndexes = new ArrayList<>(requests.size());
+
+        // 1. 항목별 검증 (실패 항목은 결과에만 기록)
+        for (int i = 0; i < requests.size(); i++) {
+            String error = validate(requests.get(i));
+            if (error == null) {
+                validIndexes.add(i);
+            } else {
+                results[i] = PatientBatchItemResultDto.failure(i, error);
+            }
+        }
+
+        // 2. 청크 단위 INSERT
+        for (int from = 0; from < validIndexes.size(); from += chunkSize) {
+            List<Integer> chunk = validIndexes.subList(from, Math.min(from + chunkSize, validIndexes.size()));
+            insertChunk(requests, chunk, results);
+        }
+
+        int succeeded = (int) Arrays.stream(results).filter(PatientBatchItemResultDto::success).count();
+        log.info("Batch creation finished: total={}, succeeded={}", requests.size(), succeeded);
+
+        return new PatientBatchResponseDto(requests.size(), succeeded, requests.size() - succeeded, List.of(results));
+    }
+
+    private void insertChunk(List<PatientRequestDto> requests, List<Integer> chunk, PatientBatchItemResultDto[] results) {
+        List<PatientRequestDto> items = chunk.stream().map(requests::get).toList();
+        try {
+            List<Long> ids = transactionTemplate.execute(status -> {
+                List<Long> insertedIds = patientBatchRepository.insertAll(items);
+                eventPublisher.publishEvent(PatientStatsEvent.createdAll(items));
+                return insertedIds;
+            });
+            for (int i = 0; i < chunk.size(); i++) {
+                results[chunk.get(i)] = PatientBatchItemResultDto.success(chunk.get(i), ids.get(i));
+            }
+        } catch (RuntimeException e) {
+            log.error("Batch chunk insert failed: firstIndex={}, size={}, reason={}", chunk.get(0), chunk.size(), e.getMessage());
+            for (Integer index : chunk) {
+                results[index] = PatientBatchItemResultDto.failure(index, "저장 실패: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 제약 조건 위반 메시지 (유효하면 null)
+     */
+    String validate(PatientRequestDto request) {
+        if (request == null) {
+            return "요청 항목이 비어 있습니다";
+        }
+        Set<ConstraintViolation<PatientRequestDto>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+            .sorted(Comparator.comparing(v -> v.getPropertyPath().toString()))
+            .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+            .collect(Collectors.joining(", "));
+    }
+}
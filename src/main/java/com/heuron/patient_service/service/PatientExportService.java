@@ -0,0 +1,116 @@
+package com.heuron.patient_service.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.heuron.patient_service.dto.PatientResponseDto;
+import com.heuron.patient_service.repository.PatientExportRepository;
+import com.heuron.patient_service.util.CsvFormat;
+import com.heuron.patient_service.util.ExportFormat;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 환자 전체 내보내기 (NDJSON / CSV)
+ * 조회 결과를 한 건씩 응답 스트림에 바로 기록하므로 전체 건수와 무관하게 메모리 사용량 일정
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PatientExportService {
+
+    private static final String CSV_HEADER = "patientId,name,age,gender,hasDisease,imageUrl,createdAt,updatedAt";
+
+    private final PatientExportRepository patientExportRepository;
+    private final ObjectMapper objectMapper;
+
+    public void export(ExportFormat format, Boolean imageUploaded, OutputStream out) throws IOException {
+        log.info("Exporting patients: format={}, imageUploaded={}", format.getKey(), imageUploaded);
+        long startedAt = System.nanoTime();
+
+        long exported;
+        try {
+            exported = switch (format) {
+                case NDJSON -> writeNdjson(imageUploaded, out);
+                case CSV -> writeCsv(imageUploaded, out);
+            };
+        } catch (UncheckedIOException e) {
+            // 클라이언트 연결 종료 등 - 쿼리를 중단하고 원래 예외 전달
+            throw e.getCause();
+        }
+
+        log.info("Patients exported: format={}, rows={}, elapsedMs={}",
+            format.getKey(), exported, (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    private long writeNdjson(Boolean imageUploaded, OutputStream out) throws IOException {
+        AtomicLong count = new AtomicLong();
+        // 행마다 flush 하지 않고 버퍼가 찰 때만 전송, 응답 스트림은 닫지 않음
+        try (SequenceWriter writer = objectMapper.writer()
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .withRootValueSeparator("\n")
+                .writeValues(out)) {
+            patientExportRepository.streamAll(imageUploaded, patient -> {
+                try {
+                    writer.write(patient);
+                    count.incrementAndGet();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            writer.flush();
+            if (count.get() > 0) {
+                out.write('\n');
+            }
+        }
+        return count.get();
+    }
+
+    private long writeCsv(Boolean imageUploaded, OutputStream out) throws IOException {
+        AtomicLong count = new AtomicLong();
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        patientExportRepository.streamAll(imageUploaded, patient -> {
+            try {
+                writeCsvRow(writer, patient);
+                count.incrementAndGet();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        writer.flush();
+        return count.get();
+    }
+
+    private void writeCsvRow(Writer writer, PatientResponseDto patient) throws IOException {
+        writer.write(String.valueOf(patient.patientId()));
+        writer.write(',');
+        writer.write(CsvFormat.escape(patient.name()));
+        writer.write(',');
+        writer.write(String.valueOf(patient.age()));
+        writer.write(',');
+        writer.write(patient.gender().name());
+        writer.write(',');
+        writer.write(String.valueOf(patient.hasDisease()));
+        writer.write(',');
+        writer.write(patient.imageUrl() != null ? patient.imageUrl() : "");
+        writer.write(',');
+        writer.write(patient.createdAt() != null ? patient.createdAt().toString() : "");
+        writer.write(',');
+        writer.write(patient.updatedAt() != null ? patient.updatedAt().toString() : "");
+        writer.write('\n');
+    }
+}
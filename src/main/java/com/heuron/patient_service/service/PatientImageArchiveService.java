@@ -0,0 +1,175 @@
+package com.heuron.patient_service.service;
+
+import com.heuron.patient_service.exception.ArchiveSizeExceededException;
+import com.heuron.patient_service.repository.PatientExportRepository;
+import com.heuron.patient_service.repository.PatientExportRepository.PatientImageFile;
+import com.heuron.patient_service.util.FileUploadUtil;
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * 환자 이미지 ZIP 스트리밍
+ * 임시 파일 없이 응답 스트림에 바로 압축 파일을 기록 (JPG/PNG는 이미 압축되어 있으므로 STORED)
+ * STORED 항목은 로컬 헤더에 CRC/크기가 필요하므로 파일 채널로 CRC를 먼저 계산한 뒤 같은 버퍼로 복사
+ */
+@Slf4j
+@Service
+@Timed("service.method")
+public class PatientImageArchiveService {
+
+    private static final int LOOKUP_BATCH_SIZE = 1000;
+
+    private final PatientExportRepository patientExportRepository;
+    private final FileUploadUtil fileUploadUtil;
+    private final int maxIds;
+    private final int bufferSize;
+
+    public PatientImageArchiveService(
+            PatientExportRepository patientExportRepository,
+            FileUploadUtil fileUploadUtil,
+            @Value("${patient.archive.max-ids:10000}") int maxIds,
+            @Value("${patient.archive.buffer-size:64KB}") DataSize bufferSize) {
+        this.patientExportRepository = patientExportRepository;
+        this.fileUploadUtil = fileUploadUtil;
+        this.maxIds = maxIds;
+        this.bufferSize = (int) bufferSize.toBytes();
+    }
+
+    /**
+     * 요청 ID 정리 (중복 제거, 오름차순) - 스트리밍 시작 전에 호출해 최대 개수 검증
+     * null이면 이미지가 있는 전체 환자 대상
+     */
+    public List<Long> normalizeIds(List<Long> patientIds) {
+        if (patientIds == null) {
+            return null;
+        }
+        TreeSet<Long> distinct = new TreeSet<>();
+        for (Long patientId : patientIds) {
+            if (patientId != null) {
+                distinct.add(patientId);
+            }
+        }
+        if (distinct.size() > maxIds) {
+            throw new ArchiveSizeExceededException(maxIds);
+        }
+        return new ArrayList<>(distinct);
+    }
+
+    /**
+     * ZIP 기록 (응답 스트림은 닫지 않음)
+     * 조회는 LOOKUP_BATCH_SIZE 단위로 나누어 다운로드 중 DB 커넥션을 점유하지 않음
+     */
+    public void writeArchive(List<Long> patientIds, OutputStream out) throws IOException {
+        log.info("Streaming image archive: requestedPatients={}", patientIds != null ? patientIds.size() : "all");
+        long startedAt = System.nanoTime();
+
+        ByteBuffer buffer = ByteBuffer.allocate(bufferSize);
+        ArchiveStats stats = new ArchiveStats();
+
+        ZipOutputStream zip = new ZipOutputStream(out);
+        zip.setMethod(ZipOutputStream.STORED);
+        if (patientIds == null) {
+            long afterPatientId = 0;
+            List<PatientImageFile> batch;
+            do {
+                batch = patientExportRepository.findImageFiles(afterPatientId, LOOKUP_BATCH_SIZE);
+                writeEntries(zip, batch, buffer, stats);
+                if (!batch.isEmpty()) {
+                    afterPatientId = batch.get(batch.size() - 1).patientId();
+                }
+            } while (batch.size() == LOOKUP_BATCH_SIZE);
+        } else {
+            for (int from = 0; from < patientIds.size(); from += LOOKUP_BATCH_SIZE) {
+                List<Long> ids = patientIds.subList(from, Math.min(from + LOOKUP_BATCH_SIZE, patientIds.size()));
+                writeEntries(zip, patientExportRepository.findImageFilesIn(ids), buffer, stats);
+            }
+        }
+        zip.finish();
+        zip.flush();
+
+        log.info("Image archive streamed: entries={}, bytes={}, missingFiles={}, elapsedMs={}",
+            stats.entries, stats.bytes, stats.missingFiles, (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    private void writeEntries(ZipOutputStream zip, List<PatientImageFile> files, ByteBuffer buffer,
+                              ArchiveStats stats) throws IOException {
+        for (PatientImageFile file : files) {
+            Path path = fileUploadUtil.getFilePath(file.imageFileName());
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                long size = channel.size();
+                ZipEntry entry = new ZipEntry(toEntryName(file));
+                entry.setSize(size);
+                entry.setCompressedSize(size);
+                entry.setCrc(crc32(channel, buffer));
+                entry.setLastModifiedTime(Files.getLastModifiedTime(path));
+
+                zip.putNextEntry(entry);
+                channel.position(0);
+                copy(channel, zip, buffer);
+                zip.closeEntry();
+
+                stats.entries++;
+                stats.bytes += size;
+            } catch (NoSuchFileException e) {
+                // 정합성 점검 대상 - 아카이브는 나머지 파일로 계속 진행
+                log.warn("Image file missing, skipped from archive: patientId={}, fileName={}",
+                    file.patientId(), file.imageFileName());
+                stats.missingFiles++;
+            }
+        }
+    }
+
+    private static long crc32(FileChannel channel, ByteBuffer buffer) throws IOException {
+        CRC32 crc = new CRC32();
+        buffer.clear();
+        while (channel.read(buffer) != -1) {
+            buffer.flip();
+            crc.update(buffer);
+            buffer.clear();
+        }
+        return crc.getValue();
+    }
+
+    private static void copy(FileChannel channel, OutputStream out, ByteBuffer buffer) throws IOException {
+        buffer.clear();
+        int read;
+        while ((read = channel.read(buffer)) != -1) {
+            out.write(buffer.array(), 0, read);
+            buffer.clear();
+        }
+    }
+
+    /**
+     * 항목 이름: patient-{ID}.{확장자}
+     */
+    private static String toEntryName(PatientImageFile file) {
+        String fileName = file.imageFileName();
+        int dot = fileName.lastIndexOf('.');
+        String extension = dot >= 0 ? fileName.substring(dot + 1).toLowerCase() : "bin";
+        return "patient-" + file.patientId() + "." + extension;
+    }
+
+    private static final class ArchiveStats {
+        private long entries;
+        private long bytes;
+        private long missingFiles;
+    }
+}
@@ -0,0 +1,482 @@
+package com.heuron.patient_service.service;
+
+import com.heuron.patient_service.dto.PatientImportJobDto;
+import com.heuron.patient_service.dto.PatientRequestDto;
+import com.heuron.patient_service.entity.Gender;
+import com.heuron.patient_service.event.PatientStatsEvent;
+import com.heuron.patient_service.entity.ImportStatus;
+import com.heuron.patient_service.entity.PatientImportJob;
+import com.heuron.patient_service.exception.FileReadException;
+import com.heuron.patient_service.exception.ImportJobNotFoundException;
+import com.heuron.patient_service.exception.ImportJobNotResumableException;
+import com.heuron.patient_service.exception.InvalidImportFileException;
+import com.heuron.patient_service.repository.PatientBatchRepository;
+import com.heuron.patient_service.repository.PatientImportJobRepository;
+import com.heuron.patient_service.util.CsvFormat;
+import com.heuron.patient_service.util.CsvReader;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.io.BufferedReader;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import static com.heuron.patient_service.exception.ErrorMessage.IMPORT_FILE_EMPTY;
+import static com.heuron.patient_service.exception.ErrorMessage.IMPORT_FILE_TOO_LARGE;
+
+/**
+ * 환자 CSV 일괄 가져오기
+ * 업로드된 CSV를 디스크에 저장한 뒤 백그라운드에서 한 행씩 읽어 검증하고, chunk-size 행마다 JDBC 배치 INSERT와
+ * 진행 상황 갱신을 한 트랜잭션으로 커밋 (오류 행은 오류 리포트 CSV에 기록하고 계속 진행)
+ * 중단된 작업은 재개 요청 시 또는 임대(lease) 만료 후 마지막 커밋 다음 행부터 이어서 처리
+ * 여러 인스턴스에서도 한 작업은 DB에서 원자적으로 점유한 인스턴스 하나만 실행하며,
+ * 점유를 잃은 인스턴스의 청크는 커밋되지 않음 (가져오기 디렉토리는 인스턴스 간 공유 필요)
+ */
+@Slf4j
+@Service
+public class PatientImportService {
+
+    private static final List<String> REQUIRED_COLUMNS = List.of("name", "age", "gender", "hasdisease");
+    private static final String ERROR_REPORT_HEADER_PREFIX = "row,error";
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    private final PatientImportJobRepository patientImportJobRepository;
+    private final PatientBatchRepository patientBatchRepository;
+    private final PatientBatchService patientBatchService;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TaskExecutor importExecutor;
+    private final Path importDir;
+    private final int chunkSize;
+    private final long maxFileSize;
+    private final Duration lease;
+
+    // 작업 점유자 식별 (프로세스마다 새로 생성되므로 재시작 전 점유는 임대 만료 후 재개)
+    private final String instanceId = UUID.randomUUID().toString();
+
+    // 이 인스턴스에서 실행 중이거나 대기 중인 작업 (인스턴스 간 중복 실행은 DB 점유로 방지)
+    private final Set<Long> activeJobIds = ConcurrentHashMap.newKeySet();
+
+    public PatientImportService(
+            PatientImportJobRepository patientImportJobRepository,
+            PatientBatchRepository patientBatchRepository,
+            PatientBatchService patientBatchService,
+            TransactionTemplate transactionTemplate,
+            ApplicationEventPublisher eventPublisher,
+            @Qualifier("importExecutor") TaskExecutor importExecutor,
+            @Value("${patient.import.dir:uploads/imports}") String importDir,
+            @Value("${patient.import.chunk-size:1000}") int chunkSize,
+            @Value("${patient.import.max-file-size:2GB}") DataSize maxFileSize,
+            @Value("${patient.import.lease:5m}") Duration lease) {
+        this.patientImportJobRepository = patientImportJobRepository;
+        this.patientBatchRepository = patientBatchRepository;
+        this.patientBatchService = patientBatchService;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.importExecutor = importExecutor;
+        this.importDir = Paths.get(importDir).normalize();
+        this.chunkSize = chunkSize;
+        this.maxFileSize = maxFileSize.toBytes();
+        this.lease = lease;
+    }
+
+    /**
+     * 요청 본문의 CSV를 파일로 저장하고 가져오기 작업 등록
+     */
+    public PatientImportJobDto startImport(InputStream in) throws IOException {
+        Files.createDirectories(importDir);
+        Path tempFile = importDir.resolve(".import-" + UUID.randomUUID() + ".tmp");
+        try {
+            long size = copyWithLimit(in, tempFile);
+            if (size == 0) {
+                throw new InvalidImportFileException(IMPORT_FILE_EMPTY);
+            }
+
+            PatientImportJob job = patientImportJobRepository.save(PatientImportJob.create(size));
+            Files.move(tempFile, getDataFile(job.getId()), StandardCopyOption.ATOMIC_MOVE);
+            log.info("Patient import registered: jobId={}, size={}", job.getId(), size);
+
+            submit(job.getId(), false);
+            return PatientImportJobDto.from(job);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    public PatientImportJobDto getJob(Long jobId) {
+        return PatientImportJobDto.from(findJob(jobId));
+    }
+
+    /**
+     * 실패했거나 중단된 작업을 마지막 커밋 지점부터 재개
+     * 다른 인스턴스가 임대 기간 안에서 실행 중이면 재개하지 않음
+     */
+    public PatientImportJobDto resume(Long jobId) {
+        PatientImportJob job = findJob(jobId);
+        if (!job.isResumable() || activeJobIds.contains(jobId) || !claim(jobId)) {
+            throw new ImportJobNotResumableException(jobId);
+        }
+        submit(jobId, true);
+        return PatientImportJobDto.from(findJob(jobId));
+    }
+
+    public Resource getErrorReport(Long jobId) {
+        findJob(jobId);
+        Path errorReport = getErrorReportFile(jobId);
+        if (!Files.isRegularFile(errorReport)) {
+            throw new FileReadException(errorReport.getFileName().toString());
+        }
+        return new FileSystemResource(errorReport);
+    }
+
+    /**
+     * 임대가 만료된 대기/진행 중 작업 재개 (시작 시 및 주기적으로, 실행하던 인스턴스가 중단된 경우)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${patient.import.lease-check-interval:1m}",
+               initialDelayString = "${patient.import.lease-check-interval:1m}")
+    public void resumeInterruptedJobs() {
+        LocalDateTime expiredBefore = LocalDateTime.now().minus(lease);
+        patientImportJobRepository.findByStatusInAndHeartbeatAtBefore(EnumSet.of(ImportStatus.PENDING, ImportStatus.RUNNING), expiredBefore)
+            .forEach(job -> {
+                log.info("Resuming interrupted patient import: jobId={}, processedRows={}", job.getId(), job.getProcessedRows());
+                submit(job.getId(), false);
+            });
+    }
+
+    /**
+     * 실행 대기열에 등록 (claimed=false 이면 실행 직전에 점유하고, 실패하면 다른 인스턴스가 실행 중이므로 건너뜀)
+     */
+    private void submit(Long jobId, boolean claimed) {
+        if (activeJobIds.add(jobId)) {
+            importExecutor.execute(() -> {
+                try {
+                    if (claimed || claim(jobId)) {
+                        run(jobId);
+                    } else {
+                        log.debug("Patient import already claimed by another instance: jobId={}", jobId);
+                    }
+                } finally {
+                    activeJobIds.remove(jobId);
+                }
+            });
+        }
+    }
+
+    private boolean claim(Long jobId) {
+        LocalDateTime now = LocalDateTime.now();
+        Integer claimed = transactionTemplate.execute(status ->
+            patientImportJobRepository.claim(jobId, instanceId, now, now.minus(lease)));
+        return claimed != null && claimed == 1;
+    }
+
+    private void run(Long jobId) {
+        PatientImportJob job = findJob(jobId);
+        long startedAt = System.nanoTime();
+        log.info("Patient import started: jobId={}, owner={}, resumeFromRow={}", jobId, instanceId, job.getProcessedRows() + 1);
+
+        try {
+            importRows(job);
+            updateClaimedJob(jobId, PatientImportJob::complete);
+            Files.deleteIfExists(getDataFile(jobId));
+
+            PatientImportJob completed = findJob(jobId);
+            log.info("Patient import completed: jobId={}, imported={}, failed={}, elapsedMs={}",
+                jobId, completed.getImportedRows(), completed.getFailedRows(), (System.nanoTime() - startedAt) / 1_000_000);
+        } catch (ImportLeaseLostException e) {
+            log.warn("Patient import stopped, claimed by another instance: jobId={}", jobId);
+        } catch (Exception e) {
+            log.error("Patient import failed: jobId={}, reason={}", jobId, e.getMessage(), e);
+            try {
+                updateClaimedJob(jobId, found -> found.fail(e.getMessage()));
+            } catch (ImportLeaseLostException lost) {
+                log.warn("Patient import failure not recorded, claimed by another instance: jobId={}", jobId);
+            }
+        }
+    }
+
+    /**
+     * 이 인스턴스가 점유 중일 때만 작업 상태 갱신 (행 잠금 후 확인, 점유를 잃었으면 트랜잭션 롤백)
+     */
+    private void updateClaimedJob(Long jobId, Consumer<PatientImportJob> update) {
+        transactionTemplate.executeWithoutResult(status -> {
+            PatientImportJob job = patientImportJobRepository.findByIdForUpdate(jobId)
+                .orElseThrow(() -> new ImportJobNotFoundException(jobId));
+            if (!job.isRunBy(instanceId)) {
+                throw new ImportLeaseLostException(jobId);
+            }
+            update.accept(job);
+        });
+    }
+
+    private void importRows(PatientImportJob job) throws IOException {
+        Path dataFile = getDataFile(job.getId());
+        if (!Files.isRegularFile(dataFile)) {
+            throw new IOException("Import file not found: " + dataFile.getFileName());
+        }
+
+        try (CountingInputStream counting = new CountingInputStream(Files.newInputStream(dataFile));
+             CsvReader csv = new CsvReader(new BufferedReader(new InputStreamReader(counting, StandardCharsets.UTF_8)));
+             FileChannel errorChannel = FileChannel.open(getErrorReportFile(job.getId()),
+                 StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+
+            // 마지막 커밋 이후 기록된 오류 행 제거 후 이어서 기록
+            errorChannel.truncate(job.getErrorReportSize());
+            errorChannel.position(job.getErrorReportSize());
+            Writer errorWriter = Channels.newWriter(errorChannel, StandardCharsets.UTF_8);
+
+            List<String> header = stripBom(csv.readRecord());
+            int[] columns = resolveColumns(header);
+            // 오류 리포트: 행 번호, 오류 내용 뒤에 원본 컬럼을 그대로 기록 (수정 후 다시 가져올 수 있도록)
+            if (job.getErrorReportSize() == 0) {
+                writeRecord(errorWriter, ERROR_REPORT_HEADER_PREFIX, header);
+            }
+
+            // 이미 커밋된 행 건너뛰기
+            long rowNumber = 0;
+            while (rowNumber < job.getProcessedRows() && csv.readRecord() != null) {
+                rowNumber++;
+            }
+
+            List<PatientRequestDto> chunk = new ArrayList<>(chunkSize);
+            long processed = 0;
+            long failed = 0;
+            List<String> record;
+            while ((record = csv.readRecord()) != null) {
+                rowNumber++;
+                processed++;
+
+                List<String> parseErrors = new ArrayList<>();
+                PatientRequestDto request = toRequest(record, columns, parseErrors);
+                String error = parseErrors.isEmpty()
+                    ? patientBatchService.validate(request)
+                    : String.join(", ", parseErrors);
+
+                if (error == null) {
+                    chunk.add(request);
+                } else {
+                    failed++;
+                    writeRecord(errorWriter, rowNumber + "," + CsvFormat.escape(error), record);
+                }
+
+                if (processed == chunkSize) {
+                    commitChunk(job.getId(), chunk, processed, failed, counting.getCount(), errorWriter, errorChannel);
+                    chunk.clear();
+                    processed = 0;
+                    failed = 0;
+                }
+            }
+            commitChunk(job.getId(), chunk, processed, failed, counting.getCount(), errorWriter, errorChannel);
+        }
+    }
+
+    /**
+     * 청크 INSERT와 진행 상황(처리 행 수, 오류 리포트 크기)을 같은 트랜잭션으로 커밋
+     */
+    private void commitChunk(Long jobId, List<PatientRequestDto> chunk, long processed, long failed, long bytesRead,
+                             Writer errorWriter, FileChannel errorChannel) throws IOException {
+        errorWriter.flush();
+        long errorReportSize = errorChannel.size();
+        // 점유 확인을 먼저 하여 행 잠금을 잡은 뒤 INSERT (점유를 잃었으면 청크를 기록하지 않음)
+        updateClaimedJob(jobId, job -> {
+            if (!chunk.isEmpty()) {
+                patientBatchRepository.insertAll(chunk);
+                eventPublisher.publishEvent(PatientStatsEvent.createdAll(chunk));
+            }
+            job.recordProgress(processed, chunk.size(), failed, bytesRead, errorReportSize);
+        });
+    }
+
+    private static List<String> stripBom(List<String> header) {
+        if (header == null || header.isEmpty() || !header.get(0).startsWith("\uFEFF")) {
+            return header;
+        }
+        List<String> stripped = new ArrayList<>(header);
+        stripped.set(0, header.get(0).substring(1));
+        return stripped;
+    }
+
+    /**
+     * 헤더에서 필수 컬럼 위치 확인 (대소문자/공백 무시)
+     */
+    private int[] resolveColumns(List<String> header) {
+        if (header == null) {
+            throw new IllegalStateException("CSV header is missing");
+        }
+        List<String> names = header.stream()
+            .map(name -> name.trim().toLowerCase(Locale.ROOT))
+            .toList();
+
+        int[] columns = new int[REQUIRED_COLUMNS.size()];
+        for (int i = 0; i < REQUIRED_COLUMNS.size(); i++) {
+            columns[i] = names.indexOf(REQUIRED_COLUMNS.get(i));
+            if (columns[i] < 0) {
+                throw new IllegalStateException("CSV header must contain columns: name, age, gender, hasDisease");
+            }
+        }
+        return columns;
+    }
+
+    /**
+     * CSV 행을 요청 DTO로 변환 (형식 오류는 parseErrors에 모두 기록하고 해당 필드는 null)
+     */
+    private PatientRequestDto toRequest(List<String> record, int[] columns, List<String> parseErrors) {
+        String name = field(record, columns[0]);
+        String age = field(record, columns[1]);
+        String gender = field(record, columns[2]);
+        String hasDisease = field(record, columns[3]);
+
+        return new PatientRequestDto(
+            name.isEmpty() ? null : name,
+            age.isEmpty() ? null : parseAge(age, parseErrors),
+            gender.isEmpty() ? null : parseGender(gender, parseErrors),
+            hasDisease.isEmpty() ? null : parseBoolean(hasDisease, parseErrors)
+        );
+    }
+
+    private static String field(List<String> record, int index) {
+        return index < record.size() ? record.get(index).trim() : "";
+    }
+
+    private static Integer parseAge(String value, List<String> parseErrors) {
+        try {
+            return Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            parseErrors.add("age: 숫자여야 합니다");
+            return null;
+        }
+    }
+
+    private static Gender parseGender(String value, List<String> parseErrors) {
+        try {
+            return Gender.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            parseErrors.add("gender: M 또는 F여야 합니다");
+            return null;
+        }
+    }
+
+    private static Boolean parseBoolean(String value, List<String> parseErrors) {
+        return switch (value.toLowerCase(Locale.ROOT)) {
+            case "true", "y", "yes", "1" -> true;
+            case "false", "n", "no", "0" -> false;
+            default -> {
+                parseErrors.add("hasDisease: true 또는 false여야 합니다");
+                yield null;
+            }
+        };
+    }
+
+    private static void writeRecord(Writer writer, String prefix, List<String> fields) throws IOException {
+        writer.write(prefix);
+        for (String field : fields) {
+            writer.write(',');
+            writer.write(CsvFormat.escape(field));
+        }
+        writer.write('\n');
+    }
+
+    private long copyWithLimit(InputStream in, Path target) throws IOException {
+        byte[] buffer = new byte[COPY_BUFFER_SIZE];
+        long total = 0;
+        try (OutputStream out = Files.newOutputStream(target, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                total += read;
+                if (total > maxFileSize) {
+                    throw new InvalidImportFileException(IMPORT_FILE_TOO_LARGE + DataSize.ofBytes(maxFileSize).toMegabytes() + "MB");
+                }
+                out.write(buffer, 0, read);
+            }
+        }
+        return total;
+    }
+
+    private PatientImportJob findJob(Long jobId) {
+        return patientImportJobRepository.findById(jobId)
+            .orElseThrow(() -> new ImportJobNotFoundException(jobId));
+    }
+
+    private Path getDataFile(Long jobId) {
+        return importDir.resolve(jobId + ".csv");
+    }
+
+    private Path getErrorReportFile(Long jobId) {
+        return importDir.resolve(jobId + "-errors.csv");
+    }
+
+    /**
+     * 다른 인스턴스가 임대 만료 후 작업을 점유함 (이 인스턴스는 실행 중단)
+     */
+    private static class ImportLeaseLostException extends RuntimeException {
+        ImportLeaseLostException(Long jobId) {
+            super("Import job claimed by another instance: " + jobId);
+        }
+    }
+
+    /**
+     * 읽은 바이트 수 집계 (진행률 계산용)
+     */
+    private static class CountingInputStream extends FilterInputStream {
+        private long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = super.read(b, off, len);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+
+        long getCount() {
+            return count;
+        }
+    }
+}
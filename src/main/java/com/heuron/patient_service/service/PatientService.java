@@ -1,26 +1,49 @@
 package com.heuron.patient_service.service;
 
+import com.heuron.patient_service.cache.CachedPatient;
+import com.heuron.patient_service.cache.PatientCache;
+import com.heuron.patient_service.dto.CursorResponse;
 import com.heuron.patient_service.dto.PatientRequestDto;
 import com.heuron.patient_service.dto.PatientResponseDto;
+import com.heuron.patient_service.dto.PatientSearchCondition;
 import com.heuron.patient_service.dto.PaginatedResponse;
 import com.heuron.patient_service.entity.Patient;
 import com.heuron.patient_service.event.FileCleanupEvent;
+import com.heuron.patient_service.event.PatientChangedEvent;
+import com.heuron.patient_service.event.PatientStatsEvent;
+import com.heuron.patient_service.exception.InvalidSearchConditionException;
 import com.heuron.patient_service.exception.PatientNotFoundException;
+import com.heuron.patient_service.repository.PatientReadRepository;
 import com.heuron.patient_service.repository.PatientRepository;
+import com.heuron.patient_service.repository.PatientSpecifications;
+import com.heuron.patient_service.util.PageCursor;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
+import static com.heuron.patient_service.exception.ErrorMessage.INVALID_AGE_RANGE;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
+@Timed("service.method")
 public class PatientService {
 
+    // 커서 조회/검색 페이지 크기 상한 (size + 1 조회의 오버플로와 무제한 조회 방지)
+    private static final int MAX_PAGE_SIZE = 1000;
+
     private final PatientRepository patientRepository;
+    private final PatientReadRepository patientReadRepository;
+    private final PatientCache patientCache;
     private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
@@ -37,29 +60,25 @@ public class PatientService {
         Patient savedPatient = patientRepository.save(patient);
         log.info("Patient created successfully: patientId={}", savedPatient.getPatientId());
 
+        // 이벤트 발행 - 트랜잭션 커밋 후 캐시 무효화
+        eventPublisher.publishEvent(new PatientChangedEvent(savedPatient.getPatientId()));
+        // 이벤트 발행 - 트랜잭션 커밋 후 통계 카운터 갱신
+        eventPublisher.publishEvent(PatientStatsEvent.created(savedPatient));
+
         return PatientResponseDto.from(savedPatient, null);
     }
 
+    /**
+     * OFFSET 기반 환자 목록 조회 (DTO 프로젝션)
+     * 마지막 페이지처럼 전체 건수를 알 수 있으면 COUNT 쿼리 생략
+     */
     @Transactional(readOnly = true)
     public PaginatedResponse<PatientResponseDto> getAllPatients(Pageable pageable, Boolean imageUploaded) {
         log.debug("Fetching patients: page={}, size={}, imageUploaded={}", pageable.getPageNumber(), pageable.getPageSize(), imageUploaded);
 
-        Page<Patient> patients;
-        if (imageUploaded == null) {
-            // 필터 없음 - 모든 환자 조회
-            patients = patientRepository.findAll(pageable);
-        } else if (imageUploaded) {
-            // 이미지가 있는 환자만 조회
-            patients = patientRepository.findByImageFileNameIsNotNull(pageable);
-        } else {
-            // 이미지가 없는 환자만 조회
-            patients = patientRepository.findByImageFileNameIsNullOrEmpty(pageable);
-        }
-
-        var content = patients.getContent().stream()
-            .map(patient -> PatientResponseDto.from(patient,
-                    patient.hasImage() ? getImageUrl(patient.getPatientId()) : null))
-            .toList();
+        // imageUploaded 필터는 (has_image, patient_id) 인덱스 사용
+        List<PatientResponseDto> content = patientReadRepository.findPage(imageUploaded, pageable);
+        Page<PatientResponseDto> patients = PageableExecutionUtils.getPage(content, pageable, () -> countPatients(imageUploaded));
 
         log.debug("Fetched {} patients out of {} total", content.size(), patients.getTotalElements());
 
@@ -72,6 +91,43 @@ public class PatientService {
         );
     }
 
+    /**
+     * 커서(keyset) 기반 환자 목록 조회
+     * patient_id > 커서 조건으로 seek 하므로 페이지 깊이와 무관하게 일정한 비용
+     * size + 1건을 조회해 다음 페이지 존재 여부를 판단 (Slice 방식, COUNT 생략)
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<PatientResponseDto> scrollPatients(String cursor, int size, Boolean imageUploaded, boolean includeTotal) {
+        long afterPatientId = PageCursor.decode(cursor);
+        int pageSize = toPageSize(size);
+        log.debug("Scrolling patients: after={}, size={}, imageUploaded={}, includeTotal={}", afterPatientId, pageSize, imageUploaded, includeTotal);
+
+        List<PatientResponseDto> patients = patientReadRepository.findAfter(imageUploaded, afterPatientId, pageSize + 1);
+
+        return toCursorResponse(patients, pageSize, includeTotal ? countPatients(imageUploaded) : null);
+    }
+
+    /**
+     * 다중 조건 환자 검색 (커서 방식)
+     * 조건을 Specification으로 조합하고 patient_id > 커서 / ORDER BY patient_id 로 seek (OFFSET 없음)
+     * 이름 접두어, 나이 범위는 범위 조건이라 인덱스가 patient_id 순서를 제공하지 못하므로
+     * 페이지마다 커서 이후의 일치 행을 정렬함 (흔한 성 한 글자 검색은 일치 행 수에 비례하는 비용)
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<PatientResponseDto> searchPatients(PatientSearchCondition condition, String cursor, int size, boolean includeTotal) {
+        if (condition.minAge() != null && condition.maxAge() != null && condition.minAge() > condition.maxAge()) {
+            throw new InvalidSearchConditionException(INVALID_AGE_RANGE);
+        }
+        long afterPatientId = PageCursor.decode(cursor);
+        int pageSize = toPageSize(size);
+        log.debug("Searching patients: condition={}, after={}, size={}, includeTotal={}", condition, afterPatientId, pageSize, includeTotal);
+
+        Specification<Patient> filter = PatientSpecifications.of(condition);
+        List<PatientResponseDto> patients = patientReadRepository.search(filter, afterPatientId, pageSize + 1);
+
+        return toCursorResponse(patients, pageSize, includeTotal ? patientRepository.count(filter) : null);
+    }
+
     @Transactional(readOnly = true)
     public PatientResponseDto getPatientById(Long patientId) {
         return getPatientById(patientId, null);
@@ -81,7 +137,7 @@ public class PatientService {
     public PatientResponseDto getPatientById(Long patientId, Boolean imageUploaded) {
         log.debug("Fetching patient: patientId={}, imageUploaded={}", patientId, imageUploaded);
 
-        Patient patient = patientRepository.findById(patientId)
+        CachedPatient patient = patientCache.findById(patientId)
             .orElseThrow(() -> new PatientNotFoundException(patientId));
 
         if (imageUploaded != null && imageUploaded && !patient.hasImage()) {
@@ -89,7 +145,7 @@ public class PatientService {
             throw new PatientNotFoundException(patientId);
         }
 
-        String imageUrl = patient.hasImage() ? getImageUrl(patientId) : null;
+        String imageUrl = patient.hasImage() ? PatientResponseDto.imageUrl(patientId) : null;
         return PatientResponseDto.from(patient, imageUrl);
     }
 
@@ -97,7 +153,8 @@ public class PatientService {
     public void deletePatient(Long patientId) {
         log.info("Deleting patient: patientId={}", patientId);
 
-        Patient patient = patientRepository.findById(patientId)
+        // 행 잠금: 진행 중인 이미지 교체가 커밋된 뒤의 파일명/통계 기준으로 삭제
+        Patient patient = patientRepository.findByIdForUpdate(patientId)
             .orElseThrow(() -> new PatientNotFoundException(patientId));
 
         String imageFileName = patient.getImageFileName();
@@ -105,6 +162,10 @@ public class PatientService {
         patientRepository.delete(patient);
         log.info("Patient deleted from database: patientId={}", patientId);
 
+        // 이벤트 발행 - 트랜잭션 커밋 후 캐시 무효화
+        eventPublisher.publishEvent(new PatientChangedEvent(patientId));
+        eventPublisher.publishEvent(PatientStatsEvent.deleted(patient));
+
         // 이벤트 발행 - 트랜잭션 커밋 시 파일 정리
         if (imageFileName != null) {
             eventPublisher.publishEvent(
@@ -113,7 +174,23 @@ public class PatientService {
         }
     }
 
-    private String getImageUrl(Long patientId) {
-        return "/api/patients/" + patientId + "/image";
+    private long countPatients(Boolean imageUploaded) {
+        if (imageUploaded == null) {
+            return patientRepository.count();
+        }
+        return patientRepository.countByHasImage(imageUploaded);
+    }
+
+    // 1 ~ MAX_PAGE_SIZE 범위로 보정
+    private static int toPageSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+    }
+
+    // pageSize + 1건 조회 결과로 다음 페이지 존재 여부와 커서 결정
+    private CursorResponse<PatientResponseDto> toCursorResponse(List<PatientResponseDto> patients, int pageSize, Long totalElements) {
+        boolean hasNext = patients.size() > pageSize;
+        List<PatientResponseDto> content = hasNext ? patients.subList(0, pageSize) : patients;
+        String nextCursor = hasNext ? PageCursor.encode(content.get(content.size() - 1).patientId()) : null;
+        return new CursorResponse<>(content, pageSize, nextCursor, hasNext, totalElements);
     }
 }
@@ -0,0 +1,163 @@
+package com.heuron.patient_service.service;
+
+import com.heuron.patient_service.datasource.ReadRouting;
+import com.heuron.patient_service.dto.PatientStatsDto;
+import com.heuron.patient_service.entity.Gender;
+import com.heuron.patient_service.event.PatientStatsEvent;
+import com.heuron.patient_service.repository.PatientRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 환자 통계 카운터
+ * 시작 시 DB 집계로 초기화한 뒤 커밋된 생성/이미지 업로드/삭제 이벤트로 증감하므로 조회 비용은 테이블 크기와 무관
+ * patient.stats.reconcile-interval 주기로 DB 집계와 비교해 누락된 증감(직접 SQL 수정 등)을 보정
+ * 카운터는 인스턴스별 메모리 값이므로 다른 인스턴스에서 커밋된 변경은 다음 보정 때 반영됨 (인스턴스별 최종 일관성)
+ * 이미지 교체는 환자 행을 잠근 뒤 이전 상태를 읽으므로 같은 환자의 동시 변경이 이중 반영되지 않음
+ */
+@Slf4j
+@Service
+public class PatientStatsService {
+
+    private static final int AGE_GROUP_SIZE = 10;
+    private static final int AGE_GROUP_COUNT = 10;  // 0-9 ... 80-89, 90+
+
+    // 카운터 배열 위치: [전체][성별...][나이대...][질병 없음, 있음][이미지 없음, 있음]
+    private static final int TOTAL = 0;
+    private static final int GENDER_OFFSET = 1;
+    private static final int AGE_OFFSET = GENDER_OFFSET + Gender.values().length;
+    private static final int DISEASE_OFFSET = AGE_OFFSET + AGE_GROUP_COUNT;
+    private static final int IMAGE_OFFSET = DISEASE_OFFSET + 2;
+    private static final int LENGTH = IMAGE_OFFSET + 2;
+
+    private final PatientRepository patientRepository;
+    private final AtomicLongArray counters = new AtomicLongArray(LENGTH);
+    private final AtomicReference<LocalDateTime> reconciledAt = new AtomicReference<>();
+    private final Counter corrections;
+
+    public PatientStatsService(PatientRepository patientRepository, MeterRegistry meterRegistry) {
+        this.patientRepository = patientRepository;
+        this.corrections = Counter.builder("patient.stats.reconcile.corrections")
+            .description("Reconciliation runs that found drifted statistics counters")
+            .register(meterRegistry);
+    }
+
+    public PatientStatsDto getStats() {
+        long[] snapshot = snapshot();
+
+        Map<String, Long> byGender = new LinkedHashMap<>();
+        for (Gender gender : Gender.values()) {
+            byGender.put(gender.name(), snapshot[GENDER_OFFSET + gender.ordinal()]);
+        }
+        Map<String, Long> byAgeGroup = new LinkedHashMap<>();
+        for (int group = 0; group < AGE_GROUP_COUNT; group++) {
+            byAgeGroup.put(ageGroupLabel(group), snapshot[AGE_OFFSET + group]);
+        }
+
+        return new PatientStatsDto(
+            snapshot[TOTAL],
+            byGender,
+            byAgeGroup,
+            booleanCounts(snapshot, DISEASE_OFFSET),
+            booleanCounts(snapshot, IMAGE_OFFSET),
+            reconciledAt.get()
+        );
+    }
+
+    public void apply(PatientStatsEvent event) {
+        event.removed().forEach(entry -> add(entry, -1));
+        event.added().forEach(entry -> add(entry, 1));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        reconcile();
+    }
+
+    /**
+     * DB 집계로 카운터 보정
+     * 집계 쿼리 중에 반영된 이벤트를 잃지 않도록 값을 덮어쓰지 않고 (집계 - 쿼리 직전 값) 만큼 더함
+     * 쿼리 직전에 커밋됐지만 이벤트가 늦게 반영된 변경은 이중 계산될 수 있으며 다음 주기에 보정됨
+     * 커밋 이벤트로 갱신한 카운터와 비교하므로 집계는 primary에서 실행
+     */
+    @Scheduled(fixedDelayString = "${patient.stats.reconcile-interval:10m}",
+               initialDelayString = "${patient.stats.reconcile-interval:10m}")
+    public void reconcile() {
+        long startedAt = System.nanoTime();
+        long[] before = snapshot();
+
+        long[] actual = new long[LENGTH];
+        for (PatientRepository.StatsGroup group : ReadRouting.onPrimary(patientRepository::countStatsGroups)) {
+            long count = group.getCount();
+            actual[TOTAL] += count;
+            actual[GENDER_OFFSET + group.getGender().ordinal()] += count;
+            actual[AGE_OFFSET + ageGroup(group.getAge())] += count;
+            actual[DISEASE_OFFSET + index(group.getHasDisease())] += count;
+            actual[IMAGE_OFFSET + index(group.getHasImage())] += count;
+        }
+
+        boolean drifted = false;
+        for (int i = 0; i < LENGTH; i++) {
+            long diff = actual[i] - before[i];
+            if (diff != 0) {
+                counters.addAndGet(i, diff);
+                drifted = true;
+            }
+        }
+
+        boolean initialized = reconciledAt.getAndSet(LocalDateTime.now()) != null;
+        if (drifted && initialized) {
+            corrections.increment();
+            log.warn("Patient statistics drift corrected: total={} -> {}", before[TOTAL], actual[TOTAL]);
+        }
+        log.info("Patient statistics reconciled: total={}, elapsedMs={}",
+            actual[TOTAL], (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    private void add(PatientStatsEvent.Entry entry, int delta) {
+        counters.addAndGet(TOTAL, delta);
+        counters.addAndGet(GENDER_OFFSET + entry.gender().ordinal(), delta);
+        counters.addAndGet(AGE_OFFSET + ageGroup(entry.age()), delta);
+        counters.addAndGet(DISEASE_OFFSET + index(entry.hasDisease()), delta);
+        counters.addAndGet(IMAGE_OFFSET + index(entry.hasImage()), delta);
+    }
+
+    private long[] snapshot() {
+        long[] snapshot = new long[LENGTH];
+        for (int i = 0; i < LENGTH; i++) {
+            snapshot[i] = counters.get(i);
+        }
+        return snapshot;
+    }
+
+    private static Map<String, Long> booleanCounts(long[] snapshot, int offset) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        counts.put("true", snapshot[offset + 1]);
+        counts.put("false", snapshot[offset]);
+        return counts;
+    }
+
+    private static int ageGroup(int age) {
+        return Math.min(Math.max(age, 0) / AGE_GROUP_SIZE, AGE_GROUP_COUNT - 1);
+    }
+
+    private static String ageGroupLabel(int group) {
+        int from = group * AGE_GROUP_SIZE;
+        return group == AGE_GROUP_COUNT - 1 ? from + "+" : from + "-" + (from + AGE_GROUP_SIZE - 1);
+    }
+
+    private static int index(Boolean value) {
+        return Boolean.TRUE.equals(value) ? 1 : 0;
+    }
+}
@@ -0,0 +1,175 @@
+package com.heuron.patient_service.service;
+
+import com.heuron.patient_service.util.FileUploadUtil;
+import com.heuron.patient_service.util.ImageSize;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 이미지 축소본(썸네일) 생성 서비스
+ * 목록 화면 등에서 원본 대신 작은 이미지를 제공하기 위해 사용
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ThumbnailService {
+
+    // 큰 크기부터 생성하여 작은 크기는 직전 결과에서 축소 (원본 디코딩 1회)
+    private static final List<ImageSize> DERIVATIVE_SIZES = Arrays.stream(ImageSize.values())
+        .filter(ImageSize::isDerivative)
+        .sorted(Comparator.comparingInt(ImageSize::getMaxDimension).reversed())
+        .toList();
+
+    private final FileUploadUtil fileUploadUtil;
+
+    /**
+     * 원본 이미지의 모든 축소본 생성
+     * 원본이 이미 해당 크기 이하이면 생성하지 않음 (원본으로 대체 제공)
+     */
+    public void generateDerivatives(String fileName) {
+        Path source = fileUploadUtil.getFilePath(fileName);
+        String format = getFormat(fileName);
+
+        // 내용 주소 저장소에서 이미 처리된 동일 이미지는 재생성하지 않음
+        if (hasAllDerivatives(fileName)) {
+            log.debug("Derivatives already exist: {}", fileName);
+            return;
+        }
+
+        try {
+            BufferedImage image = readSubsampled(source, DERIVATIVE_SIZES.get(0).getMaxDimension());
+            if (image == null) {
+                log.warn("Unsupported image, derivatives skipped: {}", fileName);
+                return;
+            }
+
+            for (ImageSize size : DERIVATIVE_SIZES) {
+                if (Math.max(image.getWidth(), image.getHeight()) <= size.getMaxDimension()) {
+                    continue;
+                }
+                image = resize(image, size.getMaxDimension(), format);
+                writeAtomically(image, format, fileUploadUtil.getFilePath(fileUploadUtil.getDerivativeFileName(fileName, size)));
+            }
+            log.info("Derivatives generated: {}", fileName);
+        } catch (IOException e) {
+            // 축소본은 선택 사항이므로 실패해도 원본 제공에는 영향 없음
+            log.warn("Derivative generation failed: fileName={}, reason={}", fileName, e.getMessage());
+        }
+
+        // 생성 대기 중 이미지 교체/환자 삭제로 원본이 정리되었으면, 정리 이후에 기록한 축소본을 삭제
+        // (정리는 원본을 먼저 지우므로, 기록을 마친 뒤 원본이 없으면 남은 축소본을 지울 주체는 여기뿐)
+        if (!Files.exists(source)) {
+            deleteDerivatives(fileName);
+            log.info("Original removed during derivative generation, derivatives deleted: {}", fileName);
+        }
+    }
+
+    /**
+     * 축소본이 있으면 축소본 경로, 없으면 원본 파일명 반환 (업로드 디렉토리 기준 상대 경로)
+     */
+    public String resolveFileName(String fileName, ImageSize size) {
+        if (!size.isDerivative()) {
+            return fileName;
+        }
+        String derivativeFileName = fileUploadUtil.getDerivativeFileName(fileName, size);
+        return Files.isRegularFile(fileUploadUtil.getFilePath(derivativeFileName))
+            ? derivativeFileName
+            : fileName;
+    }
+
+    // 모든 크기의 축소본이 있어야 완료로 판단 (중간에 실패/중단되어 빠진 크기는 다시 생성)
+    // 원본이 작아 생성하지 않는 크기가 있으면 매번 다시 확인하지만 생성 없이 끝남
+    private boolean hasAllDerivatives(String fileName) {
+        return DERIVATIVE_SIZES.stream()
+            .allMatch(size -> Files.isRegularFile(fileUploadUtil.getFilePath(fileUploadUtil.getDerivativeFileName(fileName, size))));
+    }
+
+    public void deleteDerivatives(String fileName) {
+        for (ImageSize size : DERIVATIVE_SIZES) {
+            fileUploadUtil.deleteFile(fileUploadUtil.getDerivativeFileName(fileName, size));
+        }
+    }
+
+    /**
+     * 목표 크기의 2배 이상일 때 서브샘플링하여 디코딩 (대용량 원본의 디코딩 메모리 절감)
+     */
+    private BufferedImage readSubsampled(Path source, int targetDimension) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(source.toFile())) {
+            if (input == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int largest = Math.max(reader.getWidth(0), reader.getHeight(0));
+                int subsampling = Math.max(1, largest / (targetDimension * 2));
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private BufferedImage resize(BufferedImage source, int maxDimension, String format) {
+        double scale = (double) maxDimension / Math.max(source.getWidth(), source.getHeight());
+        int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+        // JPEG은 알파 채널을 지원하지 않음
+        int type = "png".equals(format) ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        BufferedImage resized = new BufferedImage(width, height, type);
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return resized;
+    }
+
+    private void writeAtomically(BufferedImage image, String format, Path target) throws IOException {
+        Files.createDirectories(target.getParent());
+        Path tempFile = target.resolveSibling(".derivative-" + UUID.randomUUID() + ".tmp");
+        try {
+            if (!ImageIO.write(image, format, tempFile.toFile())) {
+                throw new IOException("No image writer for format: " + format);
+            }
+            Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    private String getFormat(String fileName) {
+        String extension = fileName.substring(fileName.lastIndexOf(".") + 1).toLowerCase();
+        return "png".equals(extension) ? "png" : "jpg";
+    }
+}
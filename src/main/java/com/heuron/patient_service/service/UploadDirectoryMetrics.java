@@ -0,0 +1,120 @@
+package com.heuron.patient_service.service;
+
+import com.heuron.patient_service.util.FileUploadUtil;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 업로드 디렉토리 크기/파일 수 게이지
+ * 스크레이프마다 디렉토리를 탐색하지 않도록 file.metrics.refresh-interval 주기로 갱신한 값을 노출
+ */
+@Slf4j
+@Component
+public class UploadDirectoryMetrics {
+
+    private final FileUploadUtil fileUploadUtil;
+    private final Map<Area, AtomicLong> sizes = new EnumMap<>(Area.class);
+    private final Map<Area, AtomicLong> fileCounts = new EnumMap<>(Area.class);
+
+    public UploadDirectoryMetrics(FileUploadUtil fileUploadUtil, MeterRegistry meterRegistry) {
+        this.fileUploadUtil = fileUploadUtil;
+        for (Area area : Area.values()) {
+            AtomicLong size = new AtomicLong();
+            AtomicLong fileCount = new AtomicLong();
+            sizes.put(area, size);
+            fileCounts.put(area, fileCount);
+
+            Gauge.builder("file.upload.directory.size", size, AtomicLong::get)
+                .description("Total size of files in the upload directory")
+                .baseUnit("bytes")
+                .tag("area", area.getTag())
+                .register(meterRegistry);
+            Gauge.builder("file.upload.directory.files", fileCount, AtomicLong::get)
+                .description("Number of files in the upload directory")
+                .tag("area", area.getTag())
+                .register(meterRegistry);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${file.metrics.refresh-interval:5m}")
+    public void refresh() {
+        Path root = fileUploadUtil.getUploadRoot();
+        if (!Files.isDirectory(root)) {
+            return;
+        }
+
+        Map<Area, long[]> totals = new EnumMap<>(Area.class);
+        for (Area area : Area.values()) {
+            totals.put(area, new long[2]);
+        }
+
+        try {
+            Files.walkFileTree(root, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                    if (attrs.isRegularFile() && !fileUploadUtil.isStagingFile(file.getFileName().toString())) {
+                        long[] total = totals.get(Area.of(root.relativize(file)));
+                        total[0] += attrs.size();
+                        total[1]++;
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException e) {
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            log.warn("Failed to measure upload directory: {}", e.getMessage());
+            return;
+        }
+
+        totals.forEach((area, total) -> {
+            sizes.get(area).set(total[0]);
+            fileCounts.get(area).set(total[1]);
+        });
+    }
+
+    private enum Area {
+        ORIGINALS("originals"),
+        DERIVATIVES("derivatives"),
+        QUARANTINE("quarantine");
+
+        private final String tag;
+
+        Area(String tag) {
+            this.tag = tag;
+        }
+
+        String getTag() {
+            return tag;
+        }
+
+        // 최상위 디렉토리 이름으로 구분 (derivatives/, quarantine/ 외에는 원본)
+        static Area of(Path relativePath) {
+            if (relativePath.getNameCount() > 1) {
+                String top = relativePath.getName(0).toString();
+                for (Area area : values()) {
+                    if (area != ORIGINALS && area.tag.equals(top)) {
+                        return area;
+                    }
+                }
+            }
+            return ORIGINALS;
+        }
+    }
+}
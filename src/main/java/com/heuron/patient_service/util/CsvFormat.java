@@ -0,0 +1,23 @@
+package com.heuron.patient_service.util;
+
+/**
+ * CSV 출력 필드 이스케이프 (RFC 4180)
+ */
+public final class CsvFormat {
+
+    private CsvFormat() {
+    }
+
+    /**
+     * 쉼표/따옴표/줄바꿈이 있으면 따옴표로 감싸고 내부 따옴표는 두 번
+     */
+    public static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,105 @@
+package com.heuron.patient_service.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * RFC 4180 CSV 스트리밍 파서
+ * 한 레코드씩 읽으므로 파일 크기와 무관하게 메모리 사용량 일정
+ * (따옴표로 감싼 필드 안의 쉼표, 줄바꿈, "" 이스케이프 지원)
+ */
+public class CsvReader implements Closeable {
+
+    private static final int EOF = -1;
+
+    private final Reader reader;
+    private final StringBuilder field = new StringBuilder();
+    private int pending = EOF - 1;  // 미리 읽은 문자 (없으면 EOF - 1)
+
+    public CsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * 다음 레코드의 필드 목록 (파일 끝이면 null, 빈 줄은 건너뜀)
+     */
+    public List<String> readRecord() throws IOException {
+        List<String> fields = new ArrayList<>();
+        field.setLength(0);
+        boolean quoted = false;
+        boolean fieldStarted = false;
+
+        while (true) {
+            int c = read();
+            if (quoted) {
+                if (c == EOF) {
+                    throw new IOException("Unterminated quoted field");
+                }
+                if (c == '"') {
+                    int next = read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        unread(next);
+                    }
+                } else {
+                    field.append((char) c);
+                }
+                continue;
+            }
+
+            if (c == EOF) {
+                if (!fieldStarted && fields.isEmpty()) {
+                    return null;
+                }
+                fields.add(field.toString());
+                return fields;
+            }
+            if (c == '\r' || c == '\n') {
+                if (c == '\r') {
+                    int next = read();
+                    if (next != '\n') {
+                        unread(next);
+                    }
+                }
+                if (!fieldStarted && fields.isEmpty()) {
+                    continue;  // 빈 줄
+                }
+                fields.add(field.toString());
+                return fields;
+            }
+
+            fieldStarted = true;
+            if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else {
+                field.append((char) c);
+            }
+        }
+    }
+
+    private int read() throws IOException {
+        if (pending != EOF - 1) {
+            int c = pending;
+            pending = EOF - 1;
+            return c;
+        }
+        return reader.read();
+    }
+
+    private void unread(int c) {
+        pending = c;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
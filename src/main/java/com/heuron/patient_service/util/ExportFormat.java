@@ -0,0 +1,39 @@
+package com.heuron.patient_service.util;
+
+import com.heuron.patient_service.exception.InvalidExportFormatException;
+
+/**
+ * 환자 목록 내보내기 형식
+ */
+public enum ExportFormat {
+    NDJSON("ndjson", "application/x-ndjson"),
+    CSV("csv", "text/csv;charset=UTF-8");
+
+    private final String key;
+    private final String contentType;
+
+    ExportFormat(String key, String contentType) {
+        this.key = key;
+        this.contentType = contentType;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public static ExportFormat from(String key) {
+        if (key == null || key.isBlank()) {
+            return NDJSON;
+        }
+        for (ExportFormat format : values()) {
+            if (format.key.equalsIgnoreCase(key)) {
+                return format;
+            }
+        }
+        throw new InvalidExportFormatException(key);
+    }
+}
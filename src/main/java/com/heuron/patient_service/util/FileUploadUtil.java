@@ -2,6 +2,9 @@ package com.heuron.patient_service.util;
 
 import com.heuron.patient_service.exception.FileReadException;
 import com.heuron.patient_service.exception.InvalidImageException;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
 import org.apache.tika.Tika;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
@@ -12,73 +15,310 @@ import org.springframework.web.multipart.MultipartFile;
 import static com.heuron.patient_service.exception.ErrorMessage.*;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.MalformedURLException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.FileSystemException;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
+import java.util.HexFormat;
 import java.util.Set;
+import java.util.UUID;
 
 /**
  * 파일 업로드 유틸리티
  * 파일 검증, 저장, 삭제 기능 제공
  */
 @Component
+@RequiredArgsConstructor
 public class FileUploadUtil {
 
     @Value("${file.upload-dir:uploads/images}")
     private String uploadDir;
 
+    // flat: uploads/images/{파일명}, sharded: uploads/images/ab/cd/{파일명}
+    @Value("${file.storage.layout:flat}")
+    private String layout;
+
     private static final long MAX_FILE_SIZE = 10 * 1024 * 1024; // 10MB
+    private static final int MIME_DETECTION_BYTES = 8 * 1024;   // MIME 판별용 헤더 크기
+    private static final int COPY_BUFFER_SIZE = 8 * 1024;
+    private static final int MAX_FILE_NAME_ATTEMPTS = 5;         // 저장 파일명 충돌 시 재시도 횟수
     private static final String[] ALLOWED_EXTENSIONS = {"jpg", "png"};
     private static final Set<String> ALLOWED_MIME_TYPES = Set.of(
         "image/jpeg",
         "image/png"
     );
 
+    private static final String DERIVATIVE_DIR = "derivatives";  // 축소본 저장 하위 디렉토리
+    private static final String QUARANTINE_DIR = "quarantine";   // 고아 파일 격리 하위 디렉토리
+    private static final String STAGING_FILE_PREFIX = ".upload-";
+    private static final String LAYOUT_SHARDED = "sharded";
+
     private final Tika tika = new Tika();  // MIME 타입 검출기
+    private final MeterRegistry meterRegistry;
 
     /**
      * 파일 저장
+     * 헤더만 읽어 MIME 타입을 판별한 뒤 나머지는 임시 파일로 스트리밍하고,
+     * 완료되면 최종 파일명으로 원자적으로 이동 (업로드 크기와 무관하게 힙 사용량 일정)
      */
+    @Timed(value = "file.io", extraTags = {"operation", "save"})
     public String saveFile(MultipartFile file, Long patientId) throws IOException {
+        return storeStagedFile(stageFile(file), patientId);
+    }
+
+    /**
+     * 검증 후 업로드 디렉토리의 임시 파일로 스트리밍 저장 (SHA-256을 함께 계산)
+     * 최종 위치로의 이동은 storeStagedFile (새 파일명) 또는 moveStagedContent (내용 주소), 취소는 discardStagedFile
+     */
+    public StagedFile stageFile(MultipartFile file) throws IOException {
         validateFile(file);
 
-        String fileName = generateFileName(file.getOriginalFilename(), patientId);
         Path uploadPath = Paths.get(uploadDir);
 
         // 디렉토리 생성
         Files.createDirectories(uploadPath);
 
-        // 파일 저장
-        Path filePath = uploadPath.resolve(fileName);
-        Files.write(filePath, file.getBytes());
+        // 같은 디렉토리에 임시 파일로 기록 후 이동 (부분 기록된 파일이 노출되지 않도록)
+        // (createTempFile은 0600 권한으로 생성되므로 일반 파일과 동일한 권한을 갖도록 직접 생성)
+        Path tempFile = uploadPath.resolve(STAGING_FILE_PREFIX + UUID.randomUUID() + ".tmp");
+        try (InputStream in = file.getInputStream()) {
+            MessageDigest digest = newSha256Digest();
+            byte[] header = in.readNBytes(MIME_DETECTION_BYTES);
+            validateMimeType(header);
+
+            try (OutputStream out = Files.newOutputStream(tempFile, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                out.write(header);
+                digest.update(header);
+                copyWithLimit(in, out, digest, MAX_FILE_SIZE - header.length);
+            }
+
+            String extension = getFileExtension(sanitizeFileName(file.getOriginalFilename()));
+            return new StagedFile(tempFile, extension, HexFormat.of().formatHex(digest.digest()));
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+    }
+
+    /**
+     * 분할 업로드 세션의 임시 파일 (업로드 디렉토리 안에 두어 완료 시 원자적 이동 가능)
+     */
+    public Path getUploadSessionFile(String uploadId) {
+        return getUploadRoot().resolve(STAGING_FILE_PREFIX + "session-" + uploadId + ".part");
+    }
+
+    /**
+     * 전송이 끝난 분할 업로드 임시 파일 검증 (헤더로 MIME 판별) 후 SHA-256 계산
+     * 원본은 그대로 두고 하드 링크 (미지원 시 복사본) 를 스테이징하므로, 이후 저장이 실패해도 원본으로 다시 시도 가능
+     * 최종 위치로의 이동과 취소는 multipart 업로드와 동일하게 storeStagedFile/moveStagedContent, discardStagedFile
+     */
+    @Timed(value = "file.io", extraTags = {"operation", "stage"})
+    public StagedFile stageUploadedFile(Path file, String extension) throws IOException {
+        Path tempFile = getUploadRoot().resolve(STAGING_FILE_PREFIX + UUID.randomUUID() + ".tmp");
+        try {
+            Files.createLink(tempFile, file);
+        } catch (UnsupportedOperationException | FileSystemException e) {
+            // 하드 링크 미지원 파일 시스템: 복사 (원본이 없으면 복사도 NoSuchFileException)
+            Files.copy(file, tempFile);
+        }
+
+        try (InputStream in = Files.newInputStream(tempFile)) {
+            MessageDigest digest = newSha256Digest();
+            byte[] header = in.readNBytes(MIME_DETECTION_BYTES);
+            validateMimeType(header);
 
-        return fileName;
+            digest.update(header);
+            byte[] buffer = new byte[COPY_BUFFER_SIZE];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+            return new StagedFile(tempFile, extension, HexFormat.of().formatHex(digest.digest()));
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+    }
+
+    /**
+     * 임시 파일을 새 저장 파일명({환자ID}_{타임스탬프}.{확장자})으로 이동 후 파일명 반환
+     * 기존 파일은 덮어쓰지 않으며, 같은 이름이 이미 있으면 (같은 밀리초의 업로드) 타임스탬프를 올려 다시 시도
+     */
+    public String storeStagedFile(StagedFile stagedFile, Long patientId) throws IOException {
+        long timestamp = Instant.now().toEpochMilli();
+        try {
+            for (int attempt = 1; ; attempt++) {
+                String fileName = toStoredFileName(generateFileName(patientId, stagedFile.extension(), timestamp));
+                Path target = getFilePath(fileName);
+                Files.createDirectories(target.getParent());
+                try {
+                    moveWithoutReplace(stagedFile.tempFile(), target);
+                    return fileName;
+                } catch (FileAlreadyExistsException e) {
+                    if (attempt >= MAX_FILE_NAME_ATTEMPTS) {
+                        throw e;
+                    }
+                    timestamp++;
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            discardStagedFile(stagedFile);
+            throw e;
+        }
+    }
+
+    // 하드 링크 생성은 대상이 있으면 원자적으로 실패하므로 기존 파일을 덮어쓰지 않음
+    private void moveWithoutReplace(Path source, Path target) throws IOException {
+        try {
+            Files.createLink(target, source);
+        } catch (FileAlreadyExistsException e) {
+            throw e;
+        } catch (UnsupportedOperationException | FileSystemException e) {
+            // 하드 링크 미지원 파일 시스템 (SMB/FAT 의 EPERM, 다른 장치의 EXDEV 등): 대상 존재 확인 후 이동
+            Files.move(source, target);
+            return;
+        }
+        Files.delete(source);
+    }
+
+    /**
+     * 임시 파일을 내용 주소 파일명({SHA-256}.{확장자})으로 원자적 이동 (중복 제거 모드 전용)
+     * 같은 이름의 파일이 이미 있으면 동일 내용이므로 임시 파일만 삭제하고 수정 시각 갱신
+     * (고아 파일 정리의 유예 기간이 재사용 시점부터 다시 적용되도록)
+     */
+    public void moveStagedContent(StagedFile stagedFile, String fileName) throws IOException {
+        Path target = getFilePath(fileName);
+        try {
+            if (Files.exists(target)) {
+                Files.delete(stagedFile.tempFile());
+                Files.setLastModifiedTime(target, FileTime.from(Instant.now()));
+                return;
+            }
+            Files.createDirectories(target.getParent());
+            Files.move(stagedFile.tempFile(), target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            discardStagedFile(stagedFile);
+            throw e;
+        }
+    }
+
+    public void discardStagedFile(StagedFile stagedFile) {
+        try {
+            Files.deleteIfExists(stagedFile.tempFile());
+        } catch (IOException e) {
+            throw new RuntimeException(FILE_DELETE_ERROR + stagedFile.tempFile(), e);
+        }
     }
 
     /**
      * 파일 삭제
      */
+    @Timed(value = "file.io", extraTags = {"operation", "delete"})
     public void deleteFile(String fileName) {
         if (fileName == null || fileName.isEmpty()) {
             return;
         }
 
         try {
-            Path filePath = Paths.get(uploadDir, fileName);
+            Path filePath = getFilePath(fileName);
             Files.deleteIfExists(filePath);
         } catch (IOException e) {
             throw new RuntimeException(FILE_DELETE_ERROR + fileName, e);
         }
     }
 
+    /**
+     * 고아 파일을 격리 디렉토리로 이동 (quarantine/{저장 파일명})
+     * 이미 이동되었거나 삭제된 파일이면 false
+     */
+    public boolean quarantineFile(String fileName) {
+        Path source = getFilePath(fileName);
+        Path target = getFilePath(QUARANTINE_DIR + "/" + fileName);
+        try {
+            Files.createDirectories(target.getParent());
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return true;
+        } catch (NoSuchFileException e) {
+            return false;
+        } catch (IOException e) {
+            throw new RuntimeException(FILE_QUARANTINE_ERROR + fileName, e);
+        }
+    }
+
+    public Path getUploadRoot() {
+        return Paths.get(uploadDir).normalize();
+    }
+
+    /**
+     * 원본 이미지가 아닌 업로드 디렉토리 항목 (축소본/격리 디렉토리, 업로드 중인 임시 파일)
+     */
+    public boolean isReservedDirectory(String directoryName) {
+        return DERIVATIVE_DIR.equals(directoryName) || QUARANTINE_DIR.equals(directoryName);
+    }
+
+    public boolean isStagingFile(String fileName) {
+        return fileName.startsWith(STAGING_FILE_PREFIX);
+    }
+
+    /**
+     * 업로드 디렉토리 기준 파일 경로 (업로드 디렉토리 밖을 가리키는 이름은 거부)
+     */
+    public Path getFilePath(String fileName) {
+        Path uploadPath = Paths.get(uploadDir).normalize();
+        Path filePath = uploadPath.resolve(fileName).normalize();
+        if (!filePath.startsWith(uploadPath)) {
+            throw new FileReadException(fileName);
+        }
+        return filePath;
+    }
+
+    /**
+     * 설정된 디렉토리 레이아웃에 따른 저장 파일명 (DB image_file_name 값)
+     */
+    public String toStoredFileName(String baseFileName) {
+        return LAYOUT_SHARDED.equalsIgnoreCase(layout) ? toShardedFileName(baseFileName) : baseFileName;
+    }
+
+    /**
+     * 분산 레이아웃 파일명: 파일명 SHA-256의 앞 2바이트로 2단계 하위 디렉토리 구성 (ab/cd/{파일명})
+     * 디렉토리당 파일 수를 일정 수준 이하로 유지
+     */
+    public String toShardedFileName(String baseFileName) {
+        byte[] hash = newSha256Digest().digest(baseFileName.getBytes(StandardCharsets.UTF_8));
+        HexFormat hex = HexFormat.of();
+        return hex.toHexDigits(hash[0]) + "/" + hex.toHexDigits(hash[1]) + "/" + baseFileName;
+    }
+
+    public boolean isShardedLayout() {
+        return LAYOUT_SHARDED.equalsIgnoreCase(layout);
+    }
+
+    /**
+     * 축소본 파일명 (업로드 디렉토리 기준 상대 경로: derivatives/{size}/{원본 파일명})
+     */
+    public String getDerivativeFileName(String fileName, ImageSize size) {
+        return DERIVATIVE_DIR + "/" + size.getKey() + "/" + fileName;
+    }
+
     /**
      * 파일을 Resource로 로드
      */
+    @Timed(value = "file.io", extraTags = {"operation", "load"})
     public Resource loadFileAsResource(String fileName) {
         try {
-            Path filePath = Paths.get(uploadDir).resolve(fileName).normalize();
+            Path filePath = getFilePath(fileName);
             Resource resource = new UrlResource(filePath.toUri());
 
             if (!resource.exists() || !resource.isReadable()) {
@@ -91,15 +331,42 @@ public class FileUploadUtil {
         }
     }
 
+    /**
+     * 업로드 시각 조회 (epoch millis, 초 단위 절삭)
+     * 파일명({patientId}_{timestamp}.{ext})의 타임스탬프를 우선 사용해 디스크 접근을 피함
+     */
+    public long getUploadedAt(String fileName) {
+        int start = fileName.lastIndexOf('_');
+        int end = fileName.lastIndexOf('.');
+        if (start >= 0 && end > start + 1) {
+            try {
+                return truncateToSeconds(Long.parseLong(fileName.substring(start + 1, end)));
+            } catch (NumberFormatException ignored) {
+                // 타임스탬프 형식이 아니면 파일 수정 시각 사용
+            }
+        }
+
+        try {
+            return truncateToSeconds(Files.getLastModifiedTime(getFilePath(fileName)).toMillis());
+        } catch (IOException e) {
+            throw new FileReadException(fileName);
+        }
+    }
+
+    // HTTP 날짜 헤더는 초 단위이므로 If-Modified-Since 비교가 일치하도록 절삭
+    private long truncateToSeconds(long epochMillis) {
+        return epochMillis - Math.floorMod(epochMillis, 1000L);
+    }
+
     /**
      * 파일 검증 (보안 강화)
      * 1. 파일 존재 여부
      * 2. 파일 크기
      * 3. 파일명 정제 (Path Traversal 방어)
      * 4. 확장자 검증
-     * 5. MIME 타입 검증 (실제 파일 내용 확인)
+     * MIME 타입 검증은 저장 시 헤더를 읽으며 수행 (validateMimeType)
      */
-    private void validateFile(MultipartFile file) throws IOException {
+    void validateFile(MultipartFile file) {
         // 1. 파일 존재 여부
         if (file == null || file.isEmpty()) {
             throw new InvalidImageException(FILE_NOT_SELECTED);
@@ -110,8 +377,17 @@ public class FileUploadUtil {
             throw new InvalidImageException(FILE_SIZE_EXCEEDED);
         }
 
-        // 3. 파일명 정제 및 검증 (Path Traversal 방어)
-        String originalFilename = sanitizeFileName(file.getOriginalFilename());
+        // 3, 4. 파일명 및 확장자 검증
+        validateFileName(file.getOriginalFilename());
+    }
+
+    /**
+     * 파일명 정제 및 확장자 검증 후 확장자 반환
+     * (분할 업로드는 세션 생성 시 원본 파일명으로 검증)
+     */
+    public String validateFileName(String fileName) {
+        // 파일명 정제 및 검증 (Path Traversal 방어)
+        String originalFilename = sanitizeFileName(fileName);
         if (originalFilename == null || originalFilename.isEmpty()) {
             throw new InvalidImageException("유효하지 않은 파일명입니다");
         }
@@ -119,14 +395,20 @@ public class FileUploadUtil {
             throw new InvalidImageException("파일명에 '..'이 포함될 수 없습니다");
         }
 
-        // 4. 확장자 검증
+        // 확장자 검증
         String extension = getFileExtension(originalFilename);
         if (!isAllowedExtension(extension)) {
             throw new InvalidImageException(INVALID_FILE_TYPE);
         }
+        return extension;
+    }
 
-        // 5. MIME 타입 검증 (실제 파일 내용 확인)
-        String mimeType = tika.detect(file.getBytes());
+    /**
+     * MIME 타입 검증 (실제 파일 내용 확인)
+     * 파일 전체가 아닌 앞부분 헤더만으로 판별
+     */
+    void validateMimeType(byte[] header) {
+        String mimeType = meterRegistry.timer("file.mime.detection").record(() -> tika.detect(header));
         if (!ALLOWED_MIME_TYPES.contains(mimeType)) {
             throw new InvalidImageException(
                 "파일 형식이 올바르지 않습니다. 허용된 형식: JPG, PNG (실제 타입: " + mimeType + ")"
@@ -134,13 +416,37 @@ public class FileUploadUtil {
         }
     }
 
+    /**
+     * 고정 크기 버퍼로 스트림 복사 (최대 크기 초과 시 중단)
+     */
+    private void copyWithLimit(InputStream in, OutputStream out, MessageDigest digest, long remaining) throws IOException {
+        byte[] buffer = new byte[COPY_BUFFER_SIZE];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            remaining -= read;
+            if (remaining < 0) {
+                throw new InvalidImageException(FILE_SIZE_EXCEEDED);
+            }
+            out.write(buffer, 0, read);
+            digest.update(buffer, 0, read);
+        }
+    }
+
+    private MessageDigest newSha256Digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+
     /**
      * 파일명 정제 (Path Traversal 방어)
      * - 경로 구분자 제거 (/, \)
      * - ".." 제거
      * - 특수문자 제거
      */
-    private String sanitizeFileName(String fileName) {
+    String sanitizeFileName(String fileName) {
         if (fileName == null) {
             return null;
         }
@@ -160,9 +466,15 @@ public class FileUploadUtil {
     /**
      * 파일명 생성 (타임스탬프 포함)
      */
-    private String generateFileName(String originalFileName, Long patientId) {
-        String extension = getFileExtension(sanitizeFileName(originalFileName));
-        long timestamp = Instant.now().toEpochMilli();
+    String generateFileName(String originalFileName, Long patientId) {
+        return generateFileName(patientId, getFileExtension(sanitizeFileName(originalFileName)));
+    }
+
+    String generateFileName(Long patientId, String extension) {
+        return generateFileName(patientId, extension, Instant.now().toEpochMilli());
+    }
+
+    private String generateFileName(Long patientId, String extension, long timestamp) {
         return String.format("%d_%d.%s", patientId, timestamp, extension);
     }
 
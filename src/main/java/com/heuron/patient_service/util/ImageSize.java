@@ -0,0 +1,47 @@
+package com.heuron.patient_service.util;
+
+import com.heuron.patient_service.exception.InvalidImageException;
+
+import static com.heuron.patient_service.exception.ErrorMessage.INVALID_IMAGE_SIZE;
+
+/**
+ * 이미지 조회 크기
+ * ORIGINAL 외의 크기는 업로드 후 비동기로 생성되는 축소본(derivative)
+ */
+public enum ImageSize {
+    THUMB("thumb", 160),
+    MEDIUM("medium", 640),
+    ORIGINAL("original", 0);
+
+    private final String key;
+    private final int maxDimension;  // 긴 변 기준 최대 픽셀
+
+    ImageSize(String key, int maxDimension) {
+        this.key = key;
+        this.maxDimension = maxDimension;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public int getMaxDimension() {
+        return maxDimension;
+    }
+
+    public boolean isDerivative() {
+        return this != ORIGINAL;
+    }
+
+    public static ImageSize from(String key) {
+        if (key == null || key.isBlank()) {
+            return ORIGINAL;
+        }
+        for (ImageSize size : values()) {
+            if (size.key.equalsIgnoreCase(key)) {
+                return size;
+            }
+        }
+        throw new InvalidImageException(INVALID_IMAGE_SIZE + key);
+    }
+}
@@ -0,0 +1,39 @@
+package com.heuron.patient_service.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 초당 허용 횟수 기반의 간단한 I/O 속도 제한기 (여러 스레드가 공유)
+ * 백그라운드 작업이 디스크를 독점하여 요청 처리를 지연시키지 않도록 사용
+ */
+public class IoRateLimiter {
+
+    private final long intervalNanos;
+    private long nextPermitAt;
+
+    /**
+     * @param permitsPerSecond 초당 허용 횟수 (0 이하면 제한 없음)
+     */
+    public IoRateLimiter(int permitsPerSecond) {
+        this.intervalNanos = permitsPerSecond > 0 ? TimeUnit.SECONDS.toNanos(1) / permitsPerSecond : 0;
+        this.nextPermitAt = System.nanoTime();
+    }
+
+    public void acquire() {
+        if (intervalNanos == 0) {
+            return;
+        }
+
+        long waitNanos;
+        synchronized (this) {
+            long now = System.nanoTime();
+            long permitAt = Math.max(now, nextPermitAt);
+            nextPermitAt = permitAt + intervalNanos;
+            waitNanos = permitAt - now;
+        }
+        if (waitNanos > 0) {
+            LockSupport.parkNanos(waitNanos);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.heuron.patient_service.util;
+
+import com.heuron.patient_service.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 커서 페이징용 불투명(opaque) 커서 인코딩/디코딩
+ * 마지막으로 조회한 patient_id를 Base64URL로 감싸 클라이언트에 전달
+ */
+public final class PageCursor {
+
+    private PageCursor() {
+    }
+
+    public static String encode(Long lastPatientId) {
+        if (lastPatientId == null) {
+            return null;
+        }
+        byte[] bytes = Long.toString(lastPatientId).getBytes(StandardCharsets.UTF_8);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    /**
+     * 커서가 없으면 처음부터 조회하도록 0 반환
+     */
+    public static long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            long lastPatientId = Long.parseLong(decoded);
+            if (lastPatientId < 0) {
+                throw new InvalidCursorException(cursor);
+            }
+            return lastPatientId;
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+}
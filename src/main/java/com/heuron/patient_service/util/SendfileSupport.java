@@ -0,0 +1,113 @@
+package com.heuron.patient_service.util;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 파일 전송을 컨테이너 sendfile에 위임 (Tomcat NIO: 응답 헤더 전송 후 FileChannel.transferTo로 소켓에 직접 전송)
+ * 애플리케이션이 파일을 읽어 응답 스트림에 쓰지 않으므로 사용자 영역 버퍼 복사와 힙 할당이 없음
+ * 전체 파일과 단일 Range만 처리하고, 그 외 (작은 파일, HEAD, 다중 Range, 잘못된 Range, 미지원 컨테이너) 는 일반 Resource 응답 사용
+ */
+@Component
+public class SendfileSupport {
+
+    // Tomcat 요청 속성 (org.apache.tomcat.util.net.Constants, DefaultServlet과 동일한 방식)
+    private static final String SENDFILE_SUPPORTED_ATTR = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START_ATTR = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END_ATTR = "org.apache.tomcat.sendfile.end";
+
+    private final long minSize;
+
+    /**
+     * @param minSize 이보다 작은 파일은 일반 응답 (sendfile 준비 비용이 복사 비용보다 큼, Tomcat DefaultServlet 기본값과 동일)
+     */
+    public SendfileSupport(@Value("${image.sendfile.min-size:48KB}") DataSize minSize) {
+        this.minSize = minSize.toBytes();
+    }
+
+    /**
+     * sendfile로 보낼 수 있으면 전송 영역을 요청 속성에 등록하고 반환
+     * 응답 본문 없이 헤더만 반환하면 컨테이너가 응답 커밋 시 등록된 영역을 전송
+     */
+    public Optional<FileRegion> prepare(HttpServletRequest request, Resource resource) throws IOException {
+        if (!Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED_ATTR))
+                || !HttpMethod.GET.matches(request.getMethod())
+                || !resource.isFile()) {
+            return Optional.empty();
+        }
+
+        Path file = resource.getFile().toPath().toAbsolutePath();
+        long fileSize = Files.size(file);
+        if (fileSize < minSize) {
+            return Optional.empty();
+        }
+
+        FileRegion region = new FileRegion(0, fileSize - 1, fileSize, false);
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader != null) {
+            Optional<FileRegion> range = toRegion(rangeHeader, fileSize);
+            if (range.isEmpty()) {
+                return Optional.empty();
+            }
+            region = range.get();
+        }
+
+        request.setAttribute(SENDFILE_FILENAME_ATTR, file.toString());
+        request.setAttribute(SENDFILE_START_ATTR, region.start());
+        // 끝 위치는 포함하지 않음 (exclusive)
+        request.setAttribute(SENDFILE_END_ATTR, region.end() + 1);
+        return Optional.of(region);
+    }
+
+    // 단일 Range만 변환 (다중/잘못된/범위 밖 Range는 일반 응답 경로의 206 multipart, 416 처리에 맡김)
+    private Optional<FileRegion> toRegion(String rangeHeader, long fileSize) {
+        List<HttpRange> ranges;
+        try {
+            ranges = HttpRange.parseRanges(rangeHeader);
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        if (ranges.size() != 1) {
+            return Optional.empty();
+        }
+
+        HttpRange range = ranges.get(0);
+        try {
+            long start = range.getRangeStart(fileSize);
+            long end = range.getRangeEnd(fileSize);
+            if (start >= fileSize || start > end) {
+                return Optional.empty();
+            }
+            return Optional.of(new FileRegion(start, end, fileSize, true));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 전송 영역 (end 포함)
+     */
+    public record FileRegion(long start, long end, long fileSize, boolean partial) {
+
+        public long length() {
+            return end - start + 1;
+        }
+
+        public String contentRange() {
+            return "bytes " + start + "-" + end + "/" + fileSize;
+        }
+    }
+}
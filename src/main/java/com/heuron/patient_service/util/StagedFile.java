@@ -0,0 +1,12 @@
+package com.heuron.patient_service.util;
+
+import java.nio.file.Path;
+
+/**
+ * 검증을 마치고 업로드 디렉토리에 임시 저장된 파일
+ */
+public record StagedFile(
+    Path tempFile,
+    String extension,
+    String sha256
+) {}
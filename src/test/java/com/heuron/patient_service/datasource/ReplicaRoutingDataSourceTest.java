@@ -0,0 +1,194 @@
+package com.heuron.patient_service.datasource;
+
+import com.heuron.patient_service.config.DataSourceRoutingConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 읽기/쓰기 DataSource 라우팅 검증
+ * primary, replica 를 서로 다른 H2 메모리 DB로 두고 커넥션이 어느 DB로 갔는지 DATABASE() 로 확인
+ */
+@SpringBootTest(classes = ReplicaRoutingDataSourceTest.TestConfig.class, webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@TestPropertySource(properties = {
+    "datasource.routing.enabled=true",
+    "spring.datasource.url=jdbc:h2:mem:routing_primary;DB_CLOSE_DELAY=-1",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "datasource.routing.replica-urls=jdbc:h2:mem:routing_replica;DB_CLOSE_DELAY=-1",
+    "datasource.routing.health-check-interval=1h",
+    "datasource.routing.read-your-writes-window=5s"
+})
+class ReplicaRoutingDataSourceTest {
+
+    private static final String PRIMARY = "ROUTING_PRIMARY";
+    private static final String REPLICA = "ROUTING_REPLICA";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private HikariDataSource primaryDataSource;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void clearRequest() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 복제본에서 처리")
+    void readOnlyTransactionUsesReplica() {
+        assertThat(currentDatabase(true)).isEqualTo(REPLICA);
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션은 primary에서 처리")
+    void writeTransactionUsesPrimary() {
+        assertThat(currentDatabase(false)).isEqualTo(PRIMARY);
+    }
+
+    @Test
+    @DisplayName("ReadRouting.onPrimary 구간의 읽기 전용 트랜잭션은 primary에서 처리")
+    void onPrimaryForcesPrimary() {
+        assertThat(ReadRouting.onPrimary(() -> currentDatabase(true))).isEqualTo(PRIMARY);
+        assertThat(currentDatabase(true)).isEqualTo(REPLICA);
+    }
+
+    @Test
+    @DisplayName("쓰기 응답의 쿠키를 보낸 요청은 만료 전까지 primary에서 읽음")
+    void readYourWritesCookiePinsReadsToPrimary() {
+        MockHttpServletResponse writeResponse = bindRequest(new MockHttpServletRequest());
+        currentDatabase(false);
+        Cookie cookie = writeResponse.getCookie(ReadYourWritesTracker.COOKIE_NAME);
+        assertThat(cookie).isNotNull();
+
+        MockHttpServletRequest pinnedRequest = new MockHttpServletRequest();
+        pinnedRequest.setCookies(cookie);
+        bindRequest(pinnedRequest);
+        assertThat(currentDatabase(true)).isEqualTo(PRIMARY);
+
+        MockHttpServletRequest expiredRequest = new MockHttpServletRequest();
+        expiredRequest.setCookies(new Cookie(ReadYourWritesTracker.COOKIE_NAME,
+            Long.toString(System.currentTimeMillis() - 1)));
+        bindRequest(expiredRequest);
+        assertThat(currentDatabase(true)).isEqualTo(REPLICA);
+    }
+
+    @Test
+    @DisplayName("복제본에 연결할 수 없으면 primary로 대체하고 이후 요청에서 제외")
+    void fallsBackToPrimaryWhenReplicaIsDown() throws SQLException {
+        HikariDataSource replica = replicaPool("jdbc:h2:mem:routing_missing;IFEXISTS=TRUE", 1);
+        try (ReplicaRoutingDataSource routing = routingDataSource(replica)) {
+            assertThat(databaseOf(routing)).isEqualTo(PRIMARY);
+            assertThat(databaseOf(routing)).isEqualTo(PRIMARY);
+            assertThat(meterRegistry.counter("datasource.replica.fallback").count()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    @DisplayName("복제본 풀이 가득 차면 해당 요청만 primary로 대체하고 복제본은 유지")
+    void poolExhaustionDoesNotMarkReplicaDown() throws SQLException {
+        HikariDataSource replica = replicaPool("jdbc:h2:mem:routing_replica;DB_CLOSE_DELAY=-1", 1);
+        try (ReplicaRoutingDataSource routing = routingDataSource(replica)) {
+            try (Connection held = replica.getConnection()) {
+                assertThat(databaseOf(routing)).isEqualTo(PRIMARY);
+                routing.checkReplicas();
+            }
+            assertThat(databaseOf(routing)).isEqualTo(REPLICA);
+            assertThat(meterRegistry.get("datasource.replica.up").gauge().value()).isEqualTo(1);
+        }
+    }
+
+    private String currentDatabase(boolean readOnly) {
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status ->
+            new JdbcTemplate(dataSource).queryForObject("SELECT DATABASE()", String.class));
+    }
+
+    private static MockHttpServletResponse bindRequest(MockHttpServletRequest request) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+        return response;
+    }
+
+    private HikariDataSource replicaPool(String url, int poolSize) {
+        HikariDataSource replica = new HikariDataSource();
+        replica.setJdbcUrl(url);
+        replica.setUsername("sa");
+        replica.setPassword("");
+        replica.setPoolName("test-replica");
+        replica.setMaximumPoolSize(poolSize);
+        replica.setConnectionTimeout(250);
+        return replica;
+    }
+
+    private ReplicaRoutingDataSource routingDataSource(HikariDataSource replica) {
+        return new ReplicaRoutingDataSource(primaryDataSource, List.of(replica),
+            new ReadYourWritesTracker(Duration.ZERO), meterRegistry);
+    }
+
+    private static String databaseOf(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             ResultSet resultSet = connection.createStatement().executeQuery("SELECT DATABASE()")) {
+            resultSet.next();
+            return resultSet.getString(1);
+        }
+    }
+
+    @Configuration
+    @Import(DataSourceRoutingConfig.class)
+    @EnableConfigurationProperties(DataSourceProperties.class)
+    static class TestConfig {
+
+        @Bean
+        SimpleMeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean(destroyMethod = "shutdown")
+        TaskScheduler taskScheduler() {
+            ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+            scheduler.initialize();
+            return scheduler;
+        }
+
+        @Bean
+        TransactionTemplate transactionTemplate(DataSource dataSource) {
+            return new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        }
+    }
+}